@@ -0,0 +1,193 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.Application;
+import kitchenpos.application.*;
+import kitchenpos.domain.*;
+import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.TimeOrderedIdGenerator;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class BenchmarkKitchen implements AutoCloseable {
+    private static final String[] H2_ARGUMENTS = {
+        "--spring.datasource.url=jdbc:h2:mem:kitchenpos-jmh;DB_CLOSE_DELAY=-1",
+        "--spring.datasource.username=sa",
+        "--spring.datasource.password=",
+        "--spring.flyway.enabled=false",
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "--spring.jpa.show-sql=false",
+        "--logging.level.root=WARN",
+        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=OFF",
+        "--kitchenpos.purgomalum.mode=local"
+    };
+
+    private final ConfigurableApplicationContext context;
+    private final ProductService productService;
+    private final MenuGroupService menuGroupService;
+    private final MenuService menuService;
+    private final OrderService orderService;
+
+    private BenchmarkKitchen(
+        final ConfigurableApplicationContext context,
+        final ProductService productService,
+        final MenuGroupService menuGroupService,
+        final MenuService menuService,
+        final OrderService orderService
+    ) {
+        this.context = context;
+        this.productService = productService;
+        this.menuGroupService = menuGroupService;
+        this.menuService = menuService;
+        this.orderService = orderService;
+    }
+
+    public static BenchmarkKitchen of(final String backend) {
+        switch (backend) {
+            case "memory":
+                return inMemory();
+            case "h2":
+                return h2();
+            default:
+                throw new IllegalArgumentException(backend);
+        }
+    }
+
+    private static BenchmarkKitchen inMemory() {
+        final IdGenerator idGenerator = new TimeOrderedIdGenerator();
+        final PurgomalumClient purgomalumClient = new FakePurgomalumClient();
+        final MenuRepository menuRepository = new InMemoryMenuRepository();
+        final MenuGroupRepository menuGroupRepository = new InMemoryMenuGroupRepository();
+        final ProductRepository productRepository = new InMemoryProductRepository();
+        final MenuCatalog menuCatalog = new MenuCatalog(menuRepository);
+        final MenuCompositionIndex menuCompositionIndex = new MenuCompositionIndex(menuRepository);
+        final ApplicationEventPublisher eventPublisher = event -> {
+            if (event instanceof MenuCreatedEvent) {
+                menuCompositionIndex.onMenuCreating((MenuCreatedEvent) event);
+                menuCompositionIndex.onMenuCreated((MenuCreatedEvent) event);
+            }
+            if (event instanceof MenuChangedEvent) {
+                menuCatalog.onMenuChanged((MenuChangedEvent) event);
+            }
+        };
+        return new BenchmarkKitchen(
+            null,
+            new ProductService(
+                productRepository,
+                menuRepository,
+                menuCompositionIndex,
+                purgomalumClient,
+                idGenerator,
+                eventPublisher,
+                TransactionOperations.withoutTransaction()
+            ),
+            new MenuGroupService(menuGroupRepository, idGenerator),
+            new MenuService(
+                menuRepository,
+                menuGroupRepository,
+                productRepository,
+                purgomalumClient,
+                idGenerator,
+                eventPublisher,
+                TransactionOperations.withoutTransaction()
+            ),
+            new OrderService(
+                new InMemoryOrderRepository(),
+                menuCatalog,
+                new InMemoryOrderTableRepository(),
+                new InMemoryDeliveryOutboxRepository(),
+                idGenerator,
+                eventPublisher
+            )
+        );
+    }
+
+    private static BenchmarkKitchen h2() {
+        final ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .run(H2_ARGUMENTS);
+        return new BenchmarkKitchen(
+            context,
+            context.getBean(ProductService.class),
+            context.getBean(MenuGroupService.class),
+            context.getBean(MenuService.class),
+            context.getBean(OrderService.class)
+        );
+    }
+
+    public Product createProduct(final long price) {
+        final Product request = new Product();
+        request.setName("후라이드");
+        request.setPrice(BigDecimal.valueOf(price));
+        return productService.create(request);
+    }
+
+    public MenuGroup createMenuGroup() {
+        final MenuGroup request = new MenuGroup();
+        request.setName("두마리메뉴");
+        return menuGroupService.create(request);
+    }
+
+    public Menu createMenu(final MenuGroup menuGroup, final long price, final List<Product> products) {
+        return menuService.create(menuRequest(menuGroup, price, products));
+    }
+
+    public Menu menuRequest(final MenuGroup menuGroup, final long price, final List<Product> products) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final Product product : products) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(product.getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+        final Menu request = new Menu();
+        request.setName("후라이드+후라이드");
+        request.setPrice(BigDecimal.valueOf(price));
+        request.setMenuGroupId(menuGroup.getId());
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts);
+        return request;
+    }
+
+    public Order takeoutRequest(final List<Menu> menus) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Menu menu : menus) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItem.setQuantity(1L);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order request = new Order();
+        request.setType(OrderType.TAKEOUT);
+        request.setOrderLineItems(orderLineItems);
+        return request;
+    }
+
+    public ProductService getProductService() {
+        return productService;
+    }
+
+    public MenuService getMenuService() {
+        return menuService;
+    }
+
+    public OrderService getOrderService() {
+        return orderService;
+    }
+
+    @Override
+    public void close() {
+        if (Objects.nonNull(context)) {
+            context.close();
+        }
+    }
+}
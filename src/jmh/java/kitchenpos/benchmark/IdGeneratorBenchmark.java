@@ -0,0 +1,75 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.IdGenerator;
+import kitchenpos.infra.RandomIdGenerator;
+import kitchenpos.infra.TimeOrderedIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(IdGeneratorBenchmark.BATCH_SIZE)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+    static final int BATCH_SIZE = 100;
+
+    private static final String JDBC_URL = System.getProperty(
+        "kitchenpos.benchmark.jdbc-url", "jdbc:h2:mem:id-generator;DB_CLOSE_DELAY=-1"
+    );
+    private static final String JDBC_USER = System.getProperty("kitchenpos.benchmark.jdbc-user", "sa");
+    private static final String JDBC_PASSWORD = System.getProperty("kitchenpos.benchmark.jdbc-password", "");
+
+    @Param({"random", "time-ordered"})
+    public String generator;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        idGenerator = "random".equals(generator) ? new RandomIdGenerator() : new TimeOrderedIdGenerator();
+        connection = DriverManager.getConnection(JDBC_URL, JDBC_USER, JDBC_PASSWORD);
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists id_generator_benchmark");
+            statement.execute(
+                "create table id_generator_benchmark (id binary(16) not null primary key, payload varchar(64) not null)"
+            );
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("insert into id_generator_benchmark (id, payload) values (?, ?)");
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        insert.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int[] insert() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setBytes(1, toBytes(idGenerator.generate()));
+            insert.setString(2, "서울시 송파구 위례성대로 2");
+            insert.addBatch();
+        }
+        final int[] counts = insert.executeBatch();
+        connection.commit();
+        return counts;
+    }
+
+    private static byte[] toBytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
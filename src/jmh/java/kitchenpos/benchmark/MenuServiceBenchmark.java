@@ -0,0 +1,45 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MenuServiceBenchmark {
+    @Param({"memory", "h2"})
+    public String backend;
+
+    @Param({"1", "10"})
+    public int menuProducts;
+
+    private BenchmarkKitchen kitchen;
+    private Menu request;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        kitchen = BenchmarkKitchen.of(backend);
+        final MenuGroup menuGroup = kitchen.createMenuGroup();
+        final List<Product> products = new ArrayList<>();
+        for (int i = 0; i < menuProducts; i++) {
+            products.add(kitchen.createProduct(16_000L));
+        }
+        request = kitchen.menuRequest(menuGroup, 16_000L, products);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        kitchen.close();
+    }
+
+    @Benchmark
+    public Menu create() {
+        return kitchen.getMenuService().create(request);
+    }
+}
@@ -0,0 +1,48 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+    @Param({"memory", "h2"})
+    public String backend;
+
+    @Param({"1", "10", "50"})
+    public int lineItems;
+
+    private BenchmarkKitchen kitchen;
+    private Order request;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        kitchen = BenchmarkKitchen.of(backend);
+        final MenuGroup menuGroup = kitchen.createMenuGroup();
+        final Product product = kitchen.createProduct(16_000L);
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            menus.add(kitchen.createMenu(menuGroup, 16_000L, Collections.singletonList(product)));
+        }
+        request = kitchen.takeoutRequest(menus);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        kitchen.close();
+    }
+
+    @Benchmark
+    public Order create() {
+        return kitchen.getOrderService().create(request);
+    }
+}
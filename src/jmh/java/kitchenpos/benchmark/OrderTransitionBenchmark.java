@@ -0,0 +1,56 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderTransition;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderTransitionBenchmark {
+    @Param({"memory", "h2"})
+    public String backend;
+
+    private BenchmarkKitchen kitchen;
+    private Order request;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        kitchen = BenchmarkKitchen.of(backend);
+        final MenuGroup menuGroup = kitchen.createMenuGroup();
+        final Product product = kitchen.createProduct(16_000L);
+        request = kitchen.takeoutRequest(
+            Collections.singletonList(kitchen.createMenu(menuGroup, 16_000L, Collections.singletonList(product)))
+        );
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        kitchen.close();
+    }
+
+    @Benchmark
+    public Order lifecycle() {
+        final OrderService orderService = kitchen.getOrderService();
+        final UUID orderId = orderService.create(request).getId();
+        orderService.accept(orderId);
+        orderService.serve(orderId);
+        return orderService.complete(orderId);
+    }
+
+    @Benchmark
+    public boolean lifecycleWithCompareAndSet() {
+        final OrderService orderService = kitchen.getOrderService();
+        final UUID orderId = orderService.create(request).getId();
+        return orderService.transit(orderId, OrderTransition.ACCEPT)
+            && orderService.transit(orderId, OrderTransition.SERVE)
+            && orderService.transit(orderId, OrderTransition.COMPLETE);
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProductServiceBenchmark {
+    @Param({"memory", "h2"})
+    public String backend;
+
+    @Param({"1", "100", "1000"})
+    public int fanOut;
+
+    private BenchmarkKitchen kitchen;
+    private UUID productId;
+    private Product[] requests;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        kitchen = BenchmarkKitchen.of(backend);
+        final MenuGroup menuGroup = kitchen.createMenuGroup();
+        final Product product = kitchen.createProduct(16_000L);
+        final Product side = kitchen.createProduct(4_000L);
+        for (int i = 0; i < fanOut; i++) {
+            kitchen.createMenu(menuGroup, 15_000L, Arrays.asList(product, side));
+        }
+        productId = product.getId();
+        requests = new Product[]{priceRequest(16_000L), priceRequest(17_000L)};
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        kitchen.close();
+    }
+
+    @Benchmark
+    public Product changePrice() {
+        next ^= 1;
+        return kitchen.getProductService().changePrice(productId, requests[next]);
+    }
+
+    private static Product priceRequest(final long price) {
+        final Product request = new Product();
+        request.setPrice(BigDecimal.valueOf(price));
+        return request;
+    }
+}
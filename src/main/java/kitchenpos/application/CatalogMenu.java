@@ -0,0 +1,66 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+public class CatalogMenu {
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+    private final boolean displayed;
+
+    public CatalogMenu(final Menu menu) {
+        this.id = menu.getId();
+        this.name = menu.getName();
+        this.price = menu.getPrice();
+        this.displayed = menu.isDisplayed();
+    }
+
+    public Menu toMenu() {
+        final Menu menu = new Menu();
+        menu.setId(id);
+        menu.setName(name);
+        menu.setPrice(price);
+        menu.setDisplayed(displayed);
+        return menu;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CatalogMenu that = (CatalogMenu) o;
+        return displayed == that.displayed
+            && Objects.equals(id, that.id)
+            && Objects.equals(name, that.name)
+            && price.compareTo(that.price) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, price.stripTrailingZeros(), displayed);
+    }
+}
@@ -0,0 +1,71 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.infra.KitchenridersClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class DeliveryOutboxDispatcher {
+    private final DeliveryOutboxService deliveryOutboxService;
+    private final KitchenridersClient kitchenridersClient;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public DeliveryOutboxDispatcher(
+        final DeliveryOutboxService deliveryOutboxService,
+        final KitchenridersClient kitchenridersClient,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.delivery-outbox.batch-size:100}") final int batchSize
+    ) {
+        this.deliveryOutboxService = deliveryOutboxService;
+        this.kitchenridersClient = kitchenridersClient;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        Gauge.builder("kitchenpos.delivery.outbox.depth", deliveryOutboxService, DeliveryOutboxService::countPending)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery-outbox.fixed-delay:1000}")
+    public void dispatch() {
+        List<DeliveryOutbox> deliveries;
+        do {
+            deliveries = deliveryOutboxService.claim(batchSize);
+            final List<DeliveryOutbox> delivered = new ArrayList<>();
+            final List<DeliveryOutbox> failed = new ArrayList<>();
+            for (final DeliveryOutbox delivery : deliveries) {
+                if (send(delivery)) {
+                    delivered.add(delivery);
+                } else {
+                    failed.add(delivery);
+                }
+            }
+            deliveryOutboxService.complete(delivered, failed);
+        } while (deliveries.size() == batchSize);
+    }
+
+    private boolean send(final DeliveryOutbox delivery) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            kitchenridersClient.requestDelivery(
+                delivery.getOrderId(), delivery.getAmount(), delivery.getDeliveryAddress()
+            );
+        } catch (final RuntimeException e) {
+            sample.stop(meterRegistry.timer("kitchenpos.delivery.dispatch", "outcome", "failure"));
+            return false;
+        }
+        sample.stop(meterRegistry.timer("kitchenpos.delivery.dispatch", "outcome", "success"));
+        meterRegistry.timer("kitchenpos.delivery.outbox.lag")
+            .record(Duration.between(delivery.getCreatedAt(), LocalDateTime.now()));
+        return true;
+    }
+}
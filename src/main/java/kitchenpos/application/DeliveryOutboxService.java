@@ -0,0 +1,61 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.domain.DeliveryOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class DeliveryOutboxService {
+    private static final Duration LEASE = Duration.ofMinutes(1);
+    private static final long MAX_BACKOFF_SECONDS = Duration.ofMinutes(5).getSeconds();
+
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+
+    public DeliveryOutboxService(final DeliveryOutboxRepository deliveryOutboxRepository) {
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+    }
+
+    @Transactional
+    public List<DeliveryOutbox> claim(final int batchSize) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DeliveryOutbox> deliveries = deliveryOutboxRepository.findAllByNextAttemptAtLessThanEqualOrderBySeq(
+            now, PageRequest.of(0, batchSize)
+        );
+        for (final DeliveryOutbox delivery : deliveries) {
+            delivery.setNextAttemptAt(now.plus(LEASE));
+        }
+        return deliveries;
+    }
+
+    @Transactional
+    public void complete(final List<DeliveryOutbox> delivered, final List<DeliveryOutbox> failed) {
+        if (!delivered.isEmpty()) {
+            deliveryOutboxRepository.deleteAllByIdInBatch(
+                delivered.stream()
+                    .map(DeliveryOutbox::getSeq)
+                    .collect(Collectors.toList())
+            );
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        for (final DeliveryOutbox delivery : failed) {
+            delivery.fail(now, backoff(delivery.getAttempts()));
+            deliveryOutboxRepository.save(delivery);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return deliveryOutboxRepository.count();
+    }
+
+    private Duration backoff(final int attempts) {
+        return Duration.ofSeconds(Math.min(1L << Math.min(attempts, 16), MAX_BACKOFF_SECONDS));
+    }
+}
@@ -0,0 +1,7 @@
+package kitchenpos.application;
+
+public class IdempotencyKeyMismatchException extends IllegalStateException {
+    public IdempotencyKeyMismatchException() {
+        super("Idempotency-Key was already used for a different request");
+    }
+}
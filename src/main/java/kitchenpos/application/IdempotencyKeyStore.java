@@ -0,0 +1,138 @@
+package kitchenpos.application;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/** The stripe lock only guards reserving a key; the supplier runs outside it. */
+public class IdempotencyKeyStore {
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final Segment[] segments = new Segment[STRIPES];
+    private final long ttlMillis;
+    private final LongSupplier clock;
+
+    public IdempotencyKeyStore(final int maxEntries, final long ttlMillis) {
+        this(maxEntries, ttlMillis, System::currentTimeMillis);
+    }
+
+    IdempotencyKeyStore(final int maxEntries, final long ttlMillis, final LongSupplier clock) {
+        final int maxEntriesPerSegment = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+            segments[i] = new Segment(maxEntriesPerSegment);
+        }
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public UUID computeIfAbsent(final String key, final String fingerprint, final Supplier<UUID> supplier) {
+        while (true) {
+            final Entry reserved = new Entry(new CompletableFuture<>(), fingerprint);
+            final Entry entry = reserve(key, reserved);
+            if (entry != reserved) {
+                try {
+                    return entry.value.join();
+                } catch (final CompletionException e) {
+                    continue;
+                }
+            }
+            try {
+                final UUID value = supplier.get();
+                reserved.value.complete(value);
+                return value;
+            } catch (final RuntimeException | Error e) {
+                release(key, reserved);
+                reserved.value.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i].lock();
+            try {
+                size += segments[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+        return size;
+    }
+
+    private Entry reserve(final String key, final Entry reserved) {
+        final int index = index(key);
+        locks[index].lock();
+        try {
+            final Segment segment = segments[index];
+            final long now = clock.getAsLong();
+            segment.evictExpired(now);
+            final Entry entry = segment.get(key);
+            if (entry == null) {
+                reserved.expiresAt = now + ttlMillis;
+                segment.put(key, reserved);
+                return reserved;
+            }
+            if (!entry.fingerprint.equals(reserved.fingerprint)) {
+                throw new IdempotencyKeyMismatchException();
+            }
+            return entry;
+        } finally {
+            locks[index].unlock();
+        }
+    }
+
+    private void release(final String key, final Entry reserved) {
+        final int index = index(key);
+        locks[index].lock();
+        try {
+            segments[index].remove(key, reserved);
+        } finally {
+            locks[index].unlock();
+        }
+    }
+
+    private static int index(final String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+
+    private static class Segment extends LinkedHashMap<String, Entry> {
+        private final int maxEntries;
+
+        private Segment(final int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        private void evictExpired(final long now) {
+            final Iterator<Entry> iterator = values().iterator();
+            while (iterator.hasNext() && iterator.next().expiresAt <= now) {
+                iterator.remove();
+            }
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+
+    private static class Entry {
+        private final CompletableFuture<UUID> value;
+        private final String fingerprint;
+        private long expiresAt;
+
+        private Entry(final CompletableFuture<UUID> value, final String fingerprint) {
+            this.value = value;
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class IdempotentOrderService {
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final OrderService orderService;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    public IdempotentOrderService(
+        final OrderService orderService,
+        @Value("${kitchenpos.idempotency.max-entries:100000}") final int maxEntries,
+        @Value("${kitchenpos.idempotency.ttl:24h}") final Duration ttl
+    ) {
+        this.orderService = orderService;
+        this.idempotencyKeyStore = new IdempotencyKeyStore(maxEntries, ttl.toMillis());
+    }
+
+    public Order create(final String idempotencyKey, final Order request) {
+        if (Objects.isNull(idempotencyKey) || idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final String fingerprint = fingerprint(request);
+        final Order[] created = new Order[1];
+        final UUID orderId = idempotencyKeyStore.computeIfAbsent(idempotencyKey, fingerprint, () -> {
+            created[0] = orderService.findByIdempotencyKey(idempotencyKey)
+                .orElseGet(() -> createOrFind(idempotencyKey, fingerprint, request));
+            verify(created[0], fingerprint);
+            return created[0].getId();
+        });
+        if (Objects.nonNull(created[0])) {
+            return created[0];
+        }
+        return orderService.findById(orderId);
+    }
+
+    private Order createOrFind(final String idempotencyKey, final String fingerprint, final Order request) {
+        try {
+            return orderService.create(request, idempotencyKey, fingerprint);
+        } catch (final DataIntegrityViolationException e) {
+            return orderService.findByIdempotencyKey(idempotencyKey)
+                .orElseThrow(() -> e);
+        }
+    }
+
+    private static void verify(final Order order, final String fingerprint) {
+        final String stored = order.getIdempotencyFingerprint();
+        if (Objects.nonNull(stored) && !stored.equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+    }
+
+    private static String fingerprint(final Order request) {
+        final StringBuilder builder = new StringBuilder()
+            .append(request.getType()).append('|')
+            .append(request.getOrderTableId()).append('|')
+            .append(request.getDeliveryAddress());
+        if (Objects.nonNull(request.getOrderLineItems())) {
+            for (final OrderLineItem orderLineItem : request.getOrderLineItems()) {
+                final BigDecimal price = orderLineItem.getPrice();
+                builder.append('|')
+                    .append(orderLineItem.getMenuId()).append(',')
+                    .append(Objects.isNull(price) ? null : price.stripTrailingZeros().toPlainString()).append(',')
+                    .append(orderLineItem.getQuantity());
+            }
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+
+@Component
+public class MenuCatalog {
+    private final MenuRepository menuRepository;
+    private volatile Snapshot snapshot;
+
+    public MenuCatalog(final MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    public Map<UUID, CatalogMenu> getMenus() {
+        return snapshot().menus;
+    }
+
+    public long getVersion() {
+        return snapshot().version;
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.menu-catalog.refresh-interval:60000}",
+        fixedDelayString = "${kitchenpos.menu-catalog.refresh-interval:60000}"
+    )
+    public void refresh() {
+        final Snapshot current = snapshot;
+        final List<Menu> menus = menuRepository.findAll();
+        synchronized (this) {
+            if (snapshot != current) {
+                return;
+            }
+            final Map<UUID, CatalogMenu> catalogMenus = new HashMap<>();
+            for (final Menu menu : menus) {
+                catalogMenus.put(menu.getId(), new CatalogMenu(menu));
+            }
+            if (Objects.nonNull(current) && current.menus.equals(catalogMenus)) {
+                return;
+            }
+            snapshot = new Snapshot(nextVersion(current), catalogMenus);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(final MenuChangedEvent event) {
+        synchronized (this) {
+            final Snapshot current = snapshot;
+            if (Objects.isNull(current)) {
+                return;
+            }
+            final Map<UUID, CatalogMenu> catalogMenus = new HashMap<>(current.menus);
+            for (final Menu menu : event.getMenus()) {
+                catalogMenus.put(menu.getId(), new CatalogMenu(menu));
+            }
+            snapshot = new Snapshot(nextVersion(current), catalogMenus);
+        }
+    }
+
+    private Snapshot snapshot() {
+        if (Objects.isNull(snapshot)) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    private static long nextVersion(final Snapshot snapshot) {
+        return Objects.isNull(snapshot) ? 1L : snapshot.version + 1;
+    }
+
+    private static class Snapshot {
+        private final long version;
+        private final Map<UUID, CatalogMenu> menus;
+
+        private Snapshot(final long version, final Map<UUID, CatalogMenu> menus) {
+            this.version = version;
+            this.menus = Collections.unmodifiableMap(menus);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+
+import java.util.Collections;
+import java.util.List;
+
+public class MenuChangedEvent {
+    private final List<Menu> menus;
+
+    public MenuChangedEvent(final List<Menu> menus) {
+        this.menus = menus;
+    }
+
+    public MenuChangedEvent(final Menu menu) {
+        this(Collections.singletonList(menu));
+    }
+
+    public List<Menu> getMenus() {
+        return menus;
+    }
+}
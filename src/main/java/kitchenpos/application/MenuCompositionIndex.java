@@ -0,0 +1,83 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuComposition;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MenuCompositionIndex {
+    private final MenuRepository menuRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger creating = new AtomicInteger();
+    private volatile Index index;
+
+    public MenuCompositionIndex(final MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
+
+    public Map<UUID, Map<UUID, Long>> findCompositions(final Collection<UUID> productIds) {
+        final Index current = index();
+        final Map<UUID, Map<UUID, Long>> compositions = new HashMap<>();
+        for (final UUID productId : productIds) {
+            for (final UUID menuId : current.menuIdsByProductId.getOrDefault(productId, Collections.emptySet())) {
+                compositions.put(menuId, current.compositions.get(menuId));
+            }
+        }
+        return compositions;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMenuCreating(final MenuCreatedEvent event) {
+        creating.incrementAndGet();
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMenuCreated(final MenuCreatedEvent event) {
+        creating.decrementAndGet();
+        generation.incrementAndGet();
+    }
+
+    private Index index() {
+        final Index current = index;
+        if (isCurrent(current)) {
+            return current;
+        }
+        synchronized (this) {
+            final Index latest = index;
+            if (isCurrent(latest)) {
+                return latest;
+            }
+            final Index rebuilt = new Index(generation.get(), menuRepository.findAllCompositions());
+            index = rebuilt;
+            return rebuilt;
+        }
+    }
+
+    private boolean isCurrent(final Index current) {
+        return Objects.nonNull(current) && creating.get() == 0 && current.generation == generation.get();
+    }
+
+    private static class Index {
+        private final long generation;
+        private final Map<UUID, Map<UUID, Long>> compositions = new HashMap<>();
+        private final Map<UUID, Set<UUID>> menuIdsByProductId = new HashMap<>();
+
+        private Index(final long generation, final List<MenuComposition> menuCompositions) {
+            this.generation = generation;
+            for (final MenuComposition menuComposition : menuCompositions) {
+                compositions.computeIfAbsent(menuComposition.getMenuId(), menuId -> new HashMap<>())
+                    .merge(menuComposition.getProductId(), menuComposition.getQuantity(), Long::sum);
+                menuIdsByProductId.computeIfAbsent(menuComposition.getProductId(), productId -> new HashSet<>())
+                    .add(menuComposition.getMenuId());
+            }
+            compositions.replaceAll((menuId, composition) -> Collections.unmodifiableMap(composition));
+        }
+    }
+}
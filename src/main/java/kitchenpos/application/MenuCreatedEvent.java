@@ -0,0 +1,9 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+
+public class MenuCreatedEvent extends MenuChangedEvent {
+    public MenuCreatedEvent(final Menu menu) {
+        super(menu);
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuProduct;
+
+import java.util.UUID;
+
+public class MenuProductResponse {
+    private final UUID productId;
+    private final long quantity;
+
+    public MenuProductResponse(final UUID productId, final long quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public static MenuProductResponse from(final MenuProduct menuProduct) {
+        return new MenuProductResponse(menuProduct.getProduct().getId(), menuProduct.getQuantity());
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
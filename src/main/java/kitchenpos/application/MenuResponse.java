@@ -0,0 +1,71 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class MenuResponse {
+    private final UUID id;
+    private final String name;
+    private final BigDecimal price;
+    private final UUID menuGroupId;
+    private final boolean displayed;
+    private final List<MenuProductResponse> menuProducts;
+
+    public MenuResponse(
+        final UUID id,
+        final String name,
+        final BigDecimal price,
+        final UUID menuGroupId,
+        final boolean displayed,
+        final List<MenuProductResponse> menuProducts
+    ) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.menuGroupId = menuGroupId;
+        this.displayed = displayed;
+        this.menuProducts = menuProducts;
+    }
+
+    public static MenuResponse from(final Menu menu) {
+        return new MenuResponse(
+            menu.getId(),
+            menu.getName(),
+            menu.getPrice(),
+            menu.getMenuGroup().getId(),
+            menu.isDisplayed(),
+            menu.getMenuProducts()
+                .stream()
+                .map(MenuProductResponse::from)
+                .collect(Collectors.toList())
+        );
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public UUID getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public List<MenuProductResponse> getMenuProducts() {
+        return menuProducts;
+    }
+}
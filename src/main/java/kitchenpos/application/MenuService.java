@@ -2,11 +2,14 @@ package kitchenpos.application;
 
 import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -15,36 +18,61 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
     private final PurgomalumClient purgomalumClient;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final IdGenerator idGenerator,
+        final ApplicationEventPublisher eventPublisher,
+        final TransactionOperations transactionOperations
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
         this.purgomalumClient = purgomalumClient;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
     }
 
-    @Transactional
     public Menu create(final Menu request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
-        final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
-            .orElseThrow(NoSuchElementException::new);
+        final String name = request.getName();
+        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+            throw new IllegalArgumentException();
+        }
         final List<MenuProduct> menuProductRequests = request.getMenuProducts();
         if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllByIdIn(
+        return transactionOperations.execute(status -> {
+            final Menu savedMenu = save(request, price, name, menuProductRequests);
+            eventPublisher.publishEvent(new MenuCreatedEvent(savedMenu));
+            return savedMenu;
+        });
+    }
+
+    private Menu save(
+        final Menu request,
+        final BigDecimal price,
+        final String name,
+        final List<MenuProduct> menuProductRequests
+    ) {
+        final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
+            .orElseThrow(NoSuchElementException::new);
+        final Map<UUID, Product> products = productRepository.findAllWithShareLockByIdIn(
             menuProductRequests.stream()
                 .map(MenuProduct::getProductId)
                 .collect(Collectors.toList())
-        );
+        ).stream().collect(Collectors.toMap(Product::getId, Function.identity()));
         if (products.size() != menuProductRequests.size()) {
             throw new IllegalArgumentException();
         }
@@ -55,8 +83,7 @@ public class MenuService {
             if (quantity < 0) {
                 throw new IllegalArgumentException();
             }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
+            final Product product = products.get(menuProductRequest.getProductId());
             sum = sum.add(
                 product.getPrice()
                     .multiply(BigDecimal.valueOf(quantity))
@@ -69,17 +96,14 @@ public class MenuService {
         if (price.compareTo(sum) > 0) {
             throw new IllegalArgumentException();
         }
-        final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
-            throw new IllegalArgumentException();
-        }
         final Menu menu = new Menu();
-        menu.setId(UUID.randomUUID());
+        menu.setId(idGenerator.generate());
         menu.setName(name);
         menu.setPrice(price);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
+        menu.setProductPriceSum(sum);
         return menuRepository.save(menu);
     }
 
@@ -91,18 +115,11 @@ public class MenuService {
         }
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (price.compareTo(sum) > 0) {
+        if (price.compareTo(menu.getProductPriceSum()) > 0) {
             throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu));
         return menu;
     }
 
@@ -110,18 +127,11 @@ public class MenuService {
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (menu.getPrice().compareTo(sum) > 0) {
+        if (menu.getPrice().compareTo(menu.getProductPriceSum()) > 0) {
             throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu));
         return menu;
     }
 
@@ -130,11 +140,23 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        eventPublisher.publishEvent(new MenuChangedEvent(menu));
         return menu;
     }
 
     @Transactional(readOnly = true)
-    public List<Menu> findAll() {
-        return menuRepository.findAll();
+    public List<MenuResponse> findAll() {
+        return menuRepository.findAllWithMenuProducts()
+            .stream()
+            .map(MenuResponse::from)
+            .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuResponse> findAllOverpriced() {
+        return menuRepository.findAllOverpriced()
+            .stream()
+            .map(MenuResponse::from)
+            .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,39 @@
+package kitchenpos.application;
+
+import java.util.UUID;
+
+public class OrderBatchResult {
+    private final int index;
+    private final UUID orderId;
+    private final String error;
+
+    private OrderBatchResult(final int index, final UUID orderId, final String error) {
+        this.index = index;
+        this.orderId = orderId;
+        this.error = error;
+    }
+
+    public static OrderBatchResult created(final int index, final UUID orderId) {
+        return new OrderBatchResult(index, orderId, null);
+    }
+
+    public static OrderBatchResult rejected(final int index, final RuntimeException exception) {
+        return new OrderBatchResult(index, null, exception.getClass().getSimpleName());
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCreated() {
+        return orderId != null;
+    }
+}
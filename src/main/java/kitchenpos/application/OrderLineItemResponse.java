@@ -0,0 +1,37 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderLineItem;
+
+import java.util.UUID;
+
+public class OrderLineItemResponse {
+    private final Long seq;
+    private final UUID menuId;
+    private final long quantity;
+
+    public OrderLineItemResponse(final Long seq, final UUID menuId, final long quantity) {
+        this.seq = seq;
+        this.menuId = menuId;
+        this.quantity = quantity;
+    }
+
+    public static OrderLineItemResponse from(final OrderLineItem orderLineItem) {
+        return new OrderLineItemResponse(
+            orderLineItem.getSeq(),
+            orderLineItem.getMenu().getId(),
+            orderLineItem.getQuantity()
+        );
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,80 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.OrderCount;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OrderMetrics {
+    private static final Set<OrderStatus> OPEN_STATUSES = EnumSet.complementOf(EnumSet.of(OrderStatus.COMPLETED));
+
+    private final OrderRepository orderRepository;
+    private final Map<OrderStatus, Map<OrderType, AtomicLong>> counts = new EnumMap<>(OrderStatus.class);
+    private final Map<OrderType, Counter> completedSinceStart = new EnumMap<>(OrderType.class);
+
+    public OrderMetrics(final OrderRepository orderRepository, final MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        for (final OrderStatus status : OPEN_STATUSES) {
+            final Map<OrderType, AtomicLong> countsByType = new EnumMap<>(OrderType.class);
+            for (final OrderType type : OrderType.values()) {
+                final AtomicLong count = new AtomicLong();
+                Gauge.builder("kitchenpos.orders", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+                countsByType.put(type, count);
+            }
+            counts.put(status, countsByType);
+        }
+        for (final OrderType type : OrderType.values()) {
+            completedSinceStart.put(type, Counter.builder("kitchenpos.orders.completed")
+                .description("Orders completed since this instance started")
+                .tag("type", type.name())
+                .register(meterRegistry));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order-metrics.refresh-interval:30000}")
+    public void refresh() {
+        final Map<OrderStatus, Map<OrderType, Long>> refreshed = new EnumMap<>(OrderStatus.class);
+        for (final OrderCount orderCount : orderRepository.countAllByStatusInGroupByStatusAndType(OPEN_STATUSES)) {
+            refreshed.computeIfAbsent(orderCount.getStatus(), ignored -> new EnumMap<>(OrderType.class))
+                .put(orderCount.getType(), orderCount.getCount());
+        }
+        counts.forEach((status, countsByType) -> countsByType.forEach((type, count) -> count.set(
+            refreshed.getOrDefault(status, Collections.emptyMap()).getOrDefault(type, 0L)
+        )));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        if (event.getTo() == OrderStatus.COMPLETED) {
+            completedSinceStart.get(event.getType()).increment();
+        }
+    }
+
+    public long getCount(final OrderStatus status, final OrderType type) {
+        if (!OPEN_STATUSES.contains(status)) {
+            throw new IllegalArgumentException();
+        }
+        return counts.get(status).get(type).get();
+    }
+
+    public long getCompletedSinceStart(final OrderType type) {
+        return (long) completedSinceStart.get(type).count();
+    }
+}
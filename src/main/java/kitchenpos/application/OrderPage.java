@@ -0,0 +1,58 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+public class OrderPage {
+    private static final String DELIMITER = "|";
+
+    private final List<OrderResponse> orders;
+    private final String nextCursor;
+
+    public OrderPage(final List<OrderResponse> orders, final String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    public static String encodeCursor(final Order order) {
+        final String cursor = order.getOrderDateTime() + DELIMITER + order.getId();
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LocalDateTime decodeCursorDateTime(final String cursor) {
+        try {
+            return LocalDateTime.parse(decode(cursor)[0]);
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public static UUID decodeCursorId(final String cursor) {
+        return UUID.fromString(decode(cursor)[1]);
+    }
+
+    private static String[] decode(final String cursor) {
+        final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        final String[] values = decoded.split("\\|");
+        if (values.length != 2) {
+            throw new IllegalArgumentException();
+        }
+        return values;
+    }
+
+    public List<OrderResponse> getOrders() {
+        return orders;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
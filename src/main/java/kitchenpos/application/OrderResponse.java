@@ -0,0 +1,84 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class OrderResponse {
+    private final UUID id;
+    private final OrderType type;
+    private final OrderStatus status;
+    private final LocalDateTime orderDateTime;
+    private final List<OrderLineItemResponse> orderLineItems;
+    private final String deliveryAddress;
+    private final UUID orderTableId;
+
+    public OrderResponse(
+        final UUID id,
+        final OrderType type,
+        final OrderStatus status,
+        final LocalDateTime orderDateTime,
+        final List<OrderLineItemResponse> orderLineItems,
+        final String deliveryAddress,
+        final UUID orderTableId
+    ) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.orderDateTime = orderDateTime;
+        this.orderLineItems = orderLineItems;
+        this.deliveryAddress = deliveryAddress;
+        this.orderTableId = orderTableId;
+    }
+
+    public static OrderResponse from(final Order order) {
+        final OrderTable orderTable = order.getOrderTable();
+        return new OrderResponse(
+            order.getId(),
+            order.getType(),
+            order.getStatus(),
+            order.getOrderDateTime(),
+            order.getOrderLineItems()
+                .stream()
+                .map(OrderLineItemResponse::from)
+                .collect(Collectors.toList()),
+            order.getDeliveryAddress(),
+            Objects.isNull(orderTable) ? null : orderTable.getId()
+        );
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public List<OrderLineItemResponse> getOrderLineItems() {
+        return orderLineItems;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+}
@@ -1,36 +1,113 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.*;
-import kitchenpos.infra.KitchenridersClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<OrderType> ALL_TYPES = EnumSet.allOf(OrderType.class);
+    private static final Set<OrderType> DELIVERY_TYPE = EnumSet.of(OrderType.DELIVERY);
+    private static final Set<OrderType> TAKEOUT_TYPE = EnumSet.of(OrderType.TAKEOUT);
+    private static final Set<OrderType> EAT_IN_TYPE = EnumSet.of(OrderType.EAT_IN);
+    private static final Set<OrderType> NOT_DELIVERY_TYPES = EnumSet.complementOf(EnumSet.of(OrderType.DELIVERY));
+
     private final OrderRepository orderRepository;
-    private final MenuRepository menuRepository;
+    private final MenuCatalog menuCatalog;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
         final OrderRepository orderRepository,
-        final MenuRepository menuRepository,
+        final MenuCatalog menuCatalog,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        final IdGenerator idGenerator,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.orderRepository = orderRepository;
-        this.menuRepository = menuRepository;
+        this.menuCatalog = menuCatalog;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Order create(final Order request) {
+        return create(request, null, null);
+    }
+
+    @Transactional
+    public Order create(final Order request, final String idempotencyKey, final String idempotencyFingerprint) {
+        final Order order = newOrder(request, menuCatalog.getMenus(), findOrderTables(Collections.singletonList(request)));
+        order.setIdempotencyKey(idempotencyKey);
+        order.setIdempotencyFingerprint(idempotencyFingerprint);
+        orderRepository.insertAll(Collections.singletonList(order));
+        if (order.getType() == OrderType.EAT_IN) {
+            openOrders(order.getOrderTable(), 1);
+        }
+        return order;
+    }
+
+    @Transactional
+    public List<OrderBatchResult> createAll(final List<Order> requests) {
+        final Map<UUID, CatalogMenu> menus = menuCatalog.getMenus();
+        final Map<UUID, OrderTable> orderTables = findOrderTables(requests);
+        final List<OrderBatchResult> results = new ArrayList<>();
+        final List<Order> orders = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                final Order order = newOrder(requests.get(index), menus, orderTables);
+                orders.add(order);
+                results.add(OrderBatchResult.created(index, order.getId()));
+            } catch (final IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                results.add(OrderBatchResult.rejected(index, e));
+            }
+        }
+        orderRepository.insertAll(orders);
+        orders.stream()
+            .map(Order::getOrderTable)
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(Function.identity(), LinkedHashMap::new, Collectors.counting()))
+            .forEach((orderTable, count) -> openOrders(orderTable, count.intValue()));
+        return results;
+    }
+
+    private Map<UUID, OrderTable> findOrderTables(final List<Order> requests) {
+        final List<UUID> orderTableIds = requests.stream()
+            .filter(Objects::nonNull)
+            .filter(request -> request.getType() == OrderType.EAT_IN)
+            .map(Order::getOrderTableId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .collect(Collectors.toList());
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findAllByIdIn(orderTableIds)
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+
+    private Order newOrder(
+        final Order request,
+        final Map<UUID, CatalogMenu> menus,
+        final Map<UUID, OrderTable> orderTables
+    ) {
+        if (Objects.isNull(request)) {
+            throw new IllegalArgumentException();
+        }
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
@@ -39,12 +116,15 @@ public class OrderService {
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .collect(Collectors.toList())
-        );
-        if (menus.size() != orderLineItemRequests.size()) {
+        if (orderLineItemRequests.stream().anyMatch(item -> Objects.isNull(item) || Objects.isNull(item.getPrice()))) {
+            throw new IllegalArgumentException();
+        }
+        final long menuCount = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .distinct()
+            .filter(menus::containsKey)
+            .count();
+        if (menuCount != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
@@ -55,8 +135,7 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final CatalogMenu menu = menus.get(orderLineItemRequest.getMenuId());
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
@@ -64,12 +143,12 @@ public class OrderService {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
-            orderLineItem.setMenu(menu);
+            orderLineItem.setMenu(menu.toMenu());
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
         }
         Order order = new Order();
-        order.setId(UUID.randomUUID());
+        order.setId(idGenerator.generate());
         order.setType(type);
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
@@ -82,14 +161,20 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
-                .orElseThrow(NoSuchElementException::new);
+            final UUID orderTableId = request.getOrderTableId();
+            if (Objects.isNull(orderTableId)) {
+                throw new IllegalArgumentException();
+            }
+            final OrderTable orderTable = orderTables.get(orderTableId);
+            if (Objects.isNull(orderTable)) {
+                throw new NoSuchElementException();
+            }
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        return order;
     }
 
     @Transactional
@@ -100,18 +185,24 @@ public class OrderService {
             throw new IllegalStateException();
         }
         if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
+            requestDelivery(order);
         }
-        order.setStatus(OrderStatus.ACCEPTED);
+        changeStatus(order, OrderStatus.ACCEPTED);
         return order;
     }
 
+    private void requestDelivery(final Order order) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            sum = orderLineItem.getMenu()
+                .getPrice()
+                .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+        }
+        deliveryOutboxRepository.save(
+            new DeliveryOutbox(order.getId(), sum, order.getDeliveryAddress(), LocalDateTime.now())
+        );
+    }
+
     @Transactional
     public Order serve(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
@@ -119,7 +210,7 @@ public class OrderService {
         if (order.getStatus() != OrderStatus.ACCEPTED) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.SERVED);
+        changeStatus(order, OrderStatus.SERVED);
         return order;
     }
 
@@ -133,7 +224,7 @@ public class OrderService {
         if (order.getStatus() != OrderStatus.SERVED) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.DELIVERING);
+        changeStatus(order, OrderStatus.DELIVERING);
         return order;
     }
 
@@ -144,7 +235,7 @@ public class OrderService {
         if (order.getStatus() != OrderStatus.DELIVERING) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.DELIVERED);
+        changeStatus(order, OrderStatus.DELIVERED);
         return order;
     }
 
@@ -164,19 +255,153 @@ public class OrderService {
                 throw new IllegalStateException();
             }
         }
-        order.setStatus(OrderStatus.COMPLETED);
+        changeStatus(order, OrderStatus.COMPLETED);
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
-                orderTable.setNumberOfGuests(0);
-                orderTable.setOccupied(false);
-            }
+            closeOrder(order.getOrderTable());
         }
         return order;
     }
 
+    @Transactional
+    public boolean transit(final UUID orderId, final OrderTransition transition) {
+        final boolean transited;
+        switch (transition) {
+            case ACCEPT:
+                transited = acceptDelivery(orderId)
+                    || updateStatus(orderId, NOT_DELIVERY_TYPES, OrderStatus.WAITING, OrderStatus.ACCEPTED);
+                break;
+            case SERVE:
+                transited = updateStatus(orderId, ALL_TYPES, OrderStatus.ACCEPTED, OrderStatus.SERVED);
+                break;
+            case START_DELIVERY:
+                transited = updateStatus(orderId, DELIVERY_TYPE, OrderStatus.SERVED, OrderStatus.DELIVERING);
+                break;
+            case COMPLETE_DELIVERY:
+                transited = updateStatus(orderId, ALL_TYPES, OrderStatus.DELIVERING, OrderStatus.DELIVERED);
+                break;
+            case COMPLETE:
+                transited = updateStatus(orderId, DELIVERY_TYPE, OrderStatus.DELIVERED, OrderStatus.COMPLETED)
+                    || updateStatus(orderId, TAKEOUT_TYPE, OrderStatus.SERVED, OrderStatus.COMPLETED)
+                    || completeEatIn(orderId);
+                break;
+            default:
+                throw new IllegalArgumentException();
+        }
+        if (!transited && !orderRepository.existsById(orderId)) {
+            throw new NoSuchElementException();
+        }
+        return transited;
+    }
+
+    private boolean acceptDelivery(final UUID orderId) {
+        if (!updateStatus(orderId, DELIVERY_TYPE, OrderStatus.WAITING, OrderStatus.ACCEPTED)) {
+            return false;
+        }
+        requestDelivery(
+            orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new)
+        );
+        return true;
+    }
+
+    private boolean completeEatIn(final UUID orderId) {
+        if (!updateStatus(orderId, EAT_IN_TYPE, OrderStatus.SERVED, OrderStatus.COMPLETED)) {
+            return false;
+        }
+        closeOrder(
+            orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new)
+                .getOrderTable()
+        );
+        return true;
+    }
+
+    private void openOrders(final OrderTable orderTable, final int count) {
+        orderTableRepository.addOpenOrderCount(orderTable.getId(), count);
+    }
+
+    private void closeOrder(final OrderTable orderTable) {
+        orderTableRepository.addOpenOrderCount(orderTable.getId(), -1);
+        if (orderTableRepository.clearIfNoOpenOrders(orderTable.getId()) == 1) {
+            orderTable.setNumberOfGuests(0);
+            orderTable.setOccupied(false);
+        }
+    }
+
+    private void changeStatus(final Order order, final OrderStatus to) {
+        final OrderStatus from = order.getStatus();
+        final LocalDateTime changedAt = LocalDateTime.now();
+        order.setStatus(to);
+        order.setStatusDateTime(to, changedAt);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+            order.getId(), order.getType(), from, to, order.getStatusDateTime(from), changedAt
+        ));
+    }
+
+    private boolean updateStatus(
+        final UUID orderId,
+        final Set<OrderType> types,
+        final OrderStatus from,
+        final OrderStatus to
+    ) {
+        final LocalDateTime changedAt = LocalDateTime.now();
+        if (orderRepository.updateStatus(orderId, types, from, to, changedAt) != 1) {
+            return false;
+        }
+        orderRepository.findStageStart(orderId, from)
+            .ifPresent(stageStart -> eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                orderId, stageStart.getType(), from, to, stageStart.getStartedAt(), changedAt
+            )));
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public Order findById(final UUID orderId) {
+        return orderRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Order> findByIdempotencyKey(final String idempotencyKey) {
+        return orderRepository.findByIdempotencyKey(idempotencyKey);
+    }
+
     @Transactional(readOnly = true)
     public List<Order> findAll() {
         return orderRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public OrderPage findAll(
+        final OrderStatus status,
+        final OrderType type,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final String cursor,
+        final int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final OrderSearchCondition condition = new OrderSearchCondition(
+            status,
+            type,
+            from,
+            to,
+            Objects.isNull(cursor) ? null : OrderPage.decodeCursorDateTime(cursor),
+            Objects.isNull(cursor) ? null : OrderPage.decodeCursorId(cursor)
+        );
+        final List<Order> orders = orderRepository.findAllByCondition(condition, size + 1);
+        if (orders.size() <= size) {
+            return new OrderPage(toResponses(orders), null);
+        }
+        final List<Order> page = orders.subList(0, size);
+        return new OrderPage(toResponses(page), OrderPage.encodeCursor(page.get(size - 1)));
+    }
+
+    private List<OrderResponse> toResponses(final List<Order> orders) {
+        return orders.stream()
+            .map(OrderResponse::from)
+            .collect(Collectors.toList());
+    }
 }
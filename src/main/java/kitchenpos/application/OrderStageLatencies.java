@@ -0,0 +1,84 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class OrderStageLatencies {
+    private static final long HIGHEST_TRACKABLE_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final Set<OrderStatus> KITCHEN_STAGES = EnumSet.of(OrderStatus.WAITING, OrderStatus.ACCEPTED, OrderStatus.SERVED);
+    private static final Set<OrderStatus> DELIVERY_STAGES = EnumSet.range(OrderStatus.WAITING, OrderStatus.DELIVERED);
+
+    private final Map<OrderStatus, Map<OrderType, RollingHistogram>> histograms = new EnumMap<>(OrderStatus.class);
+
+    public OrderStageLatencies(
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order-stage.window-intervals:6}") final int windowIntervals
+    ) {
+        for (final OrderType type : OrderType.values()) {
+            for (final OrderStatus stage : type == OrderType.DELIVERY ? DELIVERY_STAGES : KITCHEN_STAGES) {
+                final RollingHistogram histogram = new RollingHistogram(HIGHEST_TRACKABLE_MILLIS, windowIntervals);
+                histograms.computeIfAbsent(stage, ignored -> new EnumMap<>(OrderType.class))
+                    .put(type, histogram);
+                for (final double quantile : QUANTILES) {
+                    Gauge.builder(
+                            "kitchenpos.order.stage.latency",
+                            histogram,
+                            it -> it.getSnapshot().getValueAtPercentile(quantile * 100.0) / 1000.0
+                        )
+                        .tag("stage", stage.name())
+                        .tag("type", type.name())
+                        .tag("quantile", String.valueOf(quantile))
+                        .baseUnit("seconds")
+                        .register(meterRegistry);
+                }
+                Gauge.builder("kitchenpos.order.stage.count", histogram, it -> it.getSnapshot().getTotalCount())
+                    .tag("stage", stage.name())
+                    .tag("type", type.name())
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        if (Objects.isNull(event.getStartedAt())) {
+            return;
+        }
+        final RollingHistogram histogram = histograms.getOrDefault(event.getFrom(), Collections.emptyMap())
+            .get(event.getType());
+        if (Objects.nonNull(histogram)) {
+            histogram.record(event.getStageDuration().toMillis());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${kitchenpos.order-stage.rotate-interval:10000}")
+    public void rotate() {
+        histograms.values().forEach(histogramsByType -> histogramsByType.values().forEach(RollingHistogram::rotate));
+    }
+
+    public List<OrderStageLatency> getLatencies() {
+        final List<OrderStageLatency> latencies = new ArrayList<>();
+        histograms.forEach((stage, histogramsByType) -> histogramsByType.forEach(
+            (type, histogram) -> latencies.add(OrderStageLatency.of(stage, type, histogram.getSnapshot()))
+        ));
+        return latencies;
+    }
+}
@@ -0,0 +1,73 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.HdrHistogram.Histogram;
+
+public class OrderStageLatency {
+    private final OrderStatus stage;
+    private final OrderType type;
+    private final long count;
+    private final long p50Millis;
+    private final long p90Millis;
+    private final long p99Millis;
+    private final long maxMillis;
+
+    public OrderStageLatency(
+        final OrderStatus stage,
+        final OrderType type,
+        final long count,
+        final long p50Millis,
+        final long p90Millis,
+        final long p99Millis,
+        final long maxMillis
+    ) {
+        this.stage = stage;
+        this.type = type;
+        this.count = count;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+    }
+
+    public static OrderStageLatency of(final OrderStatus stage, final OrderType type, final Histogram histogram) {
+        return new OrderStageLatency(
+            stage,
+            type,
+            histogram.getTotalCount(),
+            histogram.getValueAtPercentile(50.0),
+            histogram.getValueAtPercentile(90.0),
+            histogram.getValueAtPercentile(99.0),
+            histogram.getMaxValue()
+        );
+    }
+
+    public OrderStatus getStage() {
+        return stage;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getP50Millis() {
+        return p50Millis;
+    }
+
+    public long getP90Millis() {
+        return p90Millis;
+    }
+
+    public long getP99Millis() {
+        return p99Millis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderStatusChangedEvent {
+    private final UUID orderId;
+    private final OrderType type;
+    private final OrderStatus from;
+    private final OrderStatus to;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime changedAt;
+
+    public OrderStatusChangedEvent(
+        final UUID orderId,
+        final OrderType type,
+        final OrderStatus from,
+        final OrderStatus to,
+        final LocalDateTime startedAt,
+        final LocalDateTime changedAt
+    ) {
+        this.orderId = orderId;
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.startedAt = startedAt;
+        this.changedAt = changedAt;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public OrderStatus getFrom() {
+        return from;
+    }
+
+    public OrderStatus getTo() {
+        return to;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public Duration getStageDuration() {
+        return Duration.between(startedAt, changedAt);
+    }
+}
@@ -1,7 +1,6 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.IdGenerator;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 import org.springframework.stereotype.Service;
@@ -15,11 +14,11 @@ import java.util.UUID;
 @Service
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
-    private final OrderRepository orderRepository;
+    private final IdGenerator idGenerator;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(final OrderTableRepository orderTableRepository, final IdGenerator idGenerator) {
         this.orderTableRepository = orderTableRepository;
-        this.orderRepository = orderRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -29,7 +28,7 @@ public class OrderTableService {
             throw new IllegalArgumentException();
         }
         final OrderTable orderTable = new OrderTable();
-        orderTable.setId(UUID.randomUUID());
+        orderTable.setId(idGenerator.generate());
         orderTable.setName(name);
         orderTable.setNumberOfGuests(0);
         orderTable.setOccupied(false);
@@ -48,7 +47,7 @@ public class OrderTableService {
     public OrderTable clear(final UUID orderTableId) {
         final OrderTable orderTable = orderTableRepository.findById(orderTableId)
             .orElseThrow(NoSuchElementException::new);
-        if (orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+        if (orderTableRepository.clearIfNoOpenOrders(orderTableId) == 0) {
             throw new IllegalStateException();
         }
         orderTable.setNumberOfGuests(0);
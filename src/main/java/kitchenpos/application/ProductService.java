@@ -2,32 +2,43 @@ package kitchenpos.application;
 
 import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
+    private final MenuCompositionIndex menuCompositionIndex;
     private final PurgomalumClient purgomalumClient;
+    private final IdGenerator idGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionOperations transactionOperations;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final MenuCompositionIndex menuCompositionIndex,
+        final PurgomalumClient purgomalumClient,
+        final IdGenerator idGenerator,
+        final ApplicationEventPublisher eventPublisher,
+        final TransactionOperations transactionOperations
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
+        this.menuCompositionIndex = menuCompositionIndex;
         this.purgomalumClient = purgomalumClient;
+        this.idGenerator = idGenerator;
+        this.eventPublisher = eventPublisher;
+        this.transactionOperations = transactionOperations;
     }
 
-    @Transactional
     public Product create(final Product request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
@@ -38,10 +49,10 @@ public class ProductService {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
-        product.setId(UUID.randomUUID());
+        product.setId(idGenerator.generate());
         product.setName(name);
         product.setPrice(price);
-        return productRepository.save(product);
+        return transactionOperations.execute(status -> productRepository.save(product));
     }
 
     @Transactional
@@ -50,24 +61,72 @@ public class ProductService {
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
-        final Product product = productRepository.findById(productId)
+        final Product product = productRepository.findWithLockById(productId)
             .orElseThrow(NoSuchElementException::new);
+        final BigDecimal delta = price.subtract(product.getPrice());
         product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = sum.add(
-                    menuProduct.getProduct()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-                );
+        final Map<UUID, Map<UUID, Long>> compositions = menuCompositionIndex.findCompositions(
+            Collections.singleton(productId)
+        );
+        if (compositions.isEmpty() || delta.signum() == 0) {
+            return product;
+        }
+        compositions.entrySet()
+            .stream()
+            .collect(Collectors.groupingBy(
+                composition -> composition.getValue().get(productId),
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+            ))
+            .forEach((quantity, menuIds) -> menuRepository.addProductPriceSum(
+                menuIds,
+                delta.multiply(BigDecimal.valueOf(quantity))
+            ));
+        hide(menuRepository.findAllOverpricedByIdIn(new ArrayList<>(compositions.keySet())));
+        return product;
+    }
+
+    @Transactional
+    public List<Product> changePrices(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, BigDecimal> prices = new HashMap<>();
+        for (final Product request : requests) {
+            final BigDecimal price = request.getPrice();
+            if (Objects.isNull(request.getId()) || Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException();
             }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
+            if (Objects.nonNull(prices.put(request.getId(), price))) {
+                throw new IllegalArgumentException();
             }
         }
-        return product;
+        final List<Product> products = productRepository.findAllWithLockByIdIn(new ArrayList<>(prices.keySet()));
+        if (products.size() != prices.size()) {
+            throw new NoSuchElementException();
+        }
+        for (final Product product : products) {
+            product.setPrice(prices.get(product.getId()));
+        }
+        final List<UUID> menuIds = new ArrayList<>(menuCompositionIndex.findCompositions(prices.keySet()).keySet());
+        if (menuIds.isEmpty()) {
+            return products;
+        }
+        menuRepository.refreshProductPriceSum(menuIds);
+        hide(menuRepository.findAllOverpricedByIdIn(menuIds));
+        return products;
+    }
+
+    private void hide(final List<Menu> menus) {
+        if (menus.isEmpty()) {
+            return;
+        }
+        menuRepository.hideAllByIdIn(
+            menus.stream()
+                .map(Menu::getId)
+                .collect(Collectors.toList())
+        );
+        menus.forEach(menu -> menu.setDisplayed(false));
+        eventPublisher.publishEvent(new MenuChangedEvent(menus));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,45 @@
+package kitchenpos.application;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+public class RollingHistogram {
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final long highestTrackableValue;
+    private final Recorder recorder;
+    private final Histogram[] intervals;
+    private int next;
+    private volatile Histogram snapshot;
+
+    public RollingHistogram(final long highestTrackableValue, final int intervals) {
+        if (intervals < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.recorder = new Recorder(highestTrackableValue, SIGNIFICANT_DIGITS);
+        this.intervals = new Histogram[intervals];
+        this.snapshot = new Histogram(highestTrackableValue, SIGNIFICANT_DIGITS);
+    }
+
+    public void record(final long value) {
+        recorder.recordValue(Math.max(0L, Math.min(value, highestTrackableValue)));
+    }
+
+    public synchronized void rotate() {
+        final Histogram evicted = intervals[next];
+        intervals[next] = evicted == null ? recorder.getIntervalHistogram() : recorder.getIntervalHistogram(evicted);
+        next = (next + 1) % intervals.length;
+        final Histogram merged = new Histogram(highestTrackableValue, SIGNIFICANT_DIGITS);
+        for (final Histogram interval : intervals) {
+            if (interval != null) {
+                merged.add(interval);
+            }
+        }
+        snapshot = merged;
+    }
+
+    public Histogram getSnapshot() {
+        return snapshot;
+    }
+}
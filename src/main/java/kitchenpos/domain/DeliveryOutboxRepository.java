@@ -0,0 +1,17 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeliveryOutboxRepository {
+    DeliveryOutbox save(DeliveryOutbox deliveryOutbox);
+
+    List<DeliveryOutbox> findAllByNextAttemptAtLessThanEqualOrderBySeq(LocalDateTime now, Pageable pageable);
+
+    void deleteAllByIdInBatch(Iterable<Long> seqs);
+
+    long count();
+}
+
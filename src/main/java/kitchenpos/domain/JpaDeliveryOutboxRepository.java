@@ -0,0 +1,18 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaDeliveryOutboxRepository extends DeliveryOutboxRepository, JpaRepository<DeliveryOutbox, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Override
+    List<DeliveryOutbox> findAllByNextAttemptAtLessThanEqualOrderBySeq(LocalDateTime now, Pageable pageable);
+}
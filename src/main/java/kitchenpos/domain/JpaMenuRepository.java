@@ -1,14 +1,49 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
 public interface JpaMenuRepository extends MenuRepository, JpaRepository<Menu, UUID> {
-    @Query("select m from Menu m join m.menuProducts mp where mp.product.id = :productId")
+    @Query("select distinct m from Menu m join fetch m.menuGroup left join fetch m.menuProducts mp left join fetch mp.product")
     @Override
-    List<Menu> findAllByProductId(@Param("productId") UUID productId);
+    List<Menu> findAllWithMenuProducts();
+
+    @Query("select m from Menu m where m.id in :ids and m.displayed = true and m.price > m.productPriceSum")
+    @Override
+    List<Menu> findAllOverpricedByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query(value = "select m.* from menu m where (m.price > m.product_price_sum) = true", nativeQuery = true)
+    @Override
+    List<Menu> findAllOverpriced();
+
+    @Query("select new kitchenpos.domain.MenuComposition(m.id, mp.product.id, mp.quantity) from Menu m join m.menuProducts mp")
+    @Override
+    List<MenuComposition> findAllCompositions();
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Menu m set m.productPriceSum = m.productPriceSum + :delta where m.id in :ids")
+    @Override
+    int addProductPriceSum(@Param("ids") List<UUID> ids, @Param("delta") BigDecimal delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+        value = "update menu m set m.product_price_sum = ("
+            + "select coalesce(sum(p.price * mp.quantity), 0) from menu_product mp "
+            + "join product p on p.id = mp.product_id where mp.menu_id = m.id"
+            + ") where m.id in (:ids)",
+        nativeQuery = true
+    )
+    @Override
+    int refreshProductPriceSum(@Param("ids") List<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Menu m set m.displayed = false where m.id in :ids")
+    @Override
+    int hideAllByIdIn(@Param("ids") List<UUID> ids);
 }
@@ -1,8 +1,19 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
-public interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, UUID> {
+public interface JpaOrderRepository
+    extends OrderRepository, JpaRepository<Order, UUID>, OrderBatchRepository, OrderQueryRepository {
+    @Query(
+        "select new kitchenpos.domain.OrderCount(o.status, o.type, count(o)) from Order o"
+            + " where o.status in :statuses group by o.status, o.type"
+    )
+    @Override
+    List<OrderCount> countAllByStatusInGroupByStatusAndType(@Param("statuses") Collection<OrderStatus> statuses);
 }
@@ -1,8 +1,20 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface JpaOrderTableRepository extends OrderTableRepository, JpaRepository<OrderTable, UUID> {
+    @Modifying
+    @Query("update OrderTable t set t.openOrderCount = t.openOrderCount + :delta where t.id = :id")
+    @Override
+    int addOpenOrderCount(@Param("id") UUID id, @Param("delta") int delta);
+
+    @Modifying
+    @Query("update OrderTable t set t.numberOfGuests = 0, t.occupied = false where t.id = :id and t.openOrderCount = 0")
+    @Override
+    int clearIfNoOpenOrders(@Param("id") UUID id);
 }
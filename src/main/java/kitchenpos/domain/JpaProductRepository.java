@@ -1,8 +1,26 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaProductRepository extends ProductRepository, JpaRepository<Product, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Override
+    Optional<Product> findWithLockById(UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Override
+    List<Product> findAllWithLockByIdIn(List<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from Product p where p.id in :ids")
+    @Override
+    List<Product> findAllWithShareLockByIdIn(@Param("ids") List<UUID> ids);
 }
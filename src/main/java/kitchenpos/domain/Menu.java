@@ -38,6 +38,9 @@ public class Menu {
     )
     private List<MenuProduct> menuProducts;
 
+    @Column(name = "product_price_sum", nullable = false, updatable = false)
+    private BigDecimal productPriceSum;
+
     @Transient
     private UUID menuGroupId;
 
@@ -92,6 +95,14 @@ public class Menu {
         this.menuProducts = menuProducts;
     }
 
+    public BigDecimal getProductPriceSum() {
+        return productPriceSum;
+    }
+
+    public void setProductPriceSum(final BigDecimal productPriceSum) {
+        this.productPriceSum = productPriceSum;
+    }
+
     public UUID getMenuGroupId() {
         return menuGroupId;
     }
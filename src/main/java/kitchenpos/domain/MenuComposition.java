@@ -0,0 +1,27 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public class MenuComposition {
+    private final UUID menuId;
+    private final UUID productId;
+    private final long quantity;
+
+    public MenuComposition(final UUID menuId, final UUID productId, final long quantity) {
+        this.menuId = menuId;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
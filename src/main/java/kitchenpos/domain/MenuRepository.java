@@ -1,5 +1,6 @@
 package kitchenpos.domain;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,8 +12,19 @@ public interface MenuRepository {
 
     List<Menu> findAll();
 
+    List<Menu> findAllWithMenuProducts();
+
     List<Menu> findAllByIdIn(List<UUID> ids);
 
-    List<Menu> findAllByProductId(UUID productId);
-}
+    List<Menu> findAllOverpricedByIdIn(List<UUID> ids);
+
+    List<Menu> findAllOverpriced();
+
+    List<MenuComposition> findAllCompositions();
 
+    int addProductPriceSum(List<UUID> ids, BigDecimal delta);
+
+    int refreshProductPriceSum(List<UUID> ids);
+
+    int hideAllByIdIn(List<UUID> ids);
+}
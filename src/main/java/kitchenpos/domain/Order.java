@@ -23,6 +23,21 @@ public class Order {
     @Column(name = "order_date_time", nullable = false)
     private LocalDateTime orderDateTime;
 
+    @Column(name = "accepted_date_time")
+    private LocalDateTime acceptedDateTime;
+
+    @Column(name = "served_date_time")
+    private LocalDateTime servedDateTime;
+
+    @Column(name = "delivering_date_time")
+    private LocalDateTime deliveringDateTime;
+
+    @Column(name = "delivered_date_time")
+    private LocalDateTime deliveredDateTime;
+
+    @Column(name = "completed_date_time")
+    private LocalDateTime completedDateTime;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "order_id",
@@ -43,6 +58,12 @@ public class Order {
     )
     private OrderTable orderTable;
 
+    @Column(name = "idempotency_key", length = 64, unique = true)
+    private String idempotencyKey;
+
+    @Column(name = "idempotency_fingerprint", length = 44)
+    private String idempotencyFingerprint;
+
     @Transient
     private UUID orderTableId;
 
@@ -81,6 +102,90 @@ public class Order {
         this.orderDateTime = orderDateTime;
     }
 
+    public LocalDateTime getAcceptedDateTime() {
+        return acceptedDateTime;
+    }
+
+    public void setAcceptedDateTime(final LocalDateTime acceptedDateTime) {
+        this.acceptedDateTime = acceptedDateTime;
+    }
+
+    public LocalDateTime getServedDateTime() {
+        return servedDateTime;
+    }
+
+    public void setServedDateTime(final LocalDateTime servedDateTime) {
+        this.servedDateTime = servedDateTime;
+    }
+
+    public LocalDateTime getDeliveringDateTime() {
+        return deliveringDateTime;
+    }
+
+    public void setDeliveringDateTime(final LocalDateTime deliveringDateTime) {
+        this.deliveringDateTime = deliveringDateTime;
+    }
+
+    public LocalDateTime getDeliveredDateTime() {
+        return deliveredDateTime;
+    }
+
+    public void setDeliveredDateTime(final LocalDateTime deliveredDateTime) {
+        this.deliveredDateTime = deliveredDateTime;
+    }
+
+    public LocalDateTime getCompletedDateTime() {
+        return completedDateTime;
+    }
+
+    public void setCompletedDateTime(final LocalDateTime completedDateTime) {
+        this.completedDateTime = completedDateTime;
+    }
+
+    public LocalDateTime getStatusDateTime(final OrderStatus status) {
+        switch (status) {
+            case WAITING:
+                return orderDateTime;
+            case ACCEPTED:
+                return acceptedDateTime;
+            case SERVED:
+                return servedDateTime;
+            case DELIVERING:
+                return deliveringDateTime;
+            case DELIVERED:
+                return deliveredDateTime;
+            case COMPLETED:
+                return completedDateTime;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    public void setStatusDateTime(final OrderStatus status, final LocalDateTime dateTime) {
+        switch (status) {
+            case WAITING:
+                orderDateTime = dateTime;
+                break;
+            case ACCEPTED:
+                acceptedDateTime = dateTime;
+                break;
+            case SERVED:
+                servedDateTime = dateTime;
+                break;
+            case DELIVERING:
+                deliveringDateTime = dateTime;
+                break;
+            case DELIVERED:
+                deliveredDateTime = dateTime;
+                break;
+            case COMPLETED:
+                completedDateTime = dateTime;
+                break;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
     public List<OrderLineItem> getOrderLineItems() {
         return orderLineItems;
     }
@@ -105,6 +210,22 @@ public class Order {
         this.orderTable = orderTable;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(final String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public String getIdempotencyFingerprint() {
+        return idempotencyFingerprint;
+    }
+
+    public void setIdempotencyFingerprint(final String idempotencyFingerprint) {
+        this.idempotencyFingerprint = idempotencyFingerprint;
+    }
+
     public UUID getOrderTableId() {
         return orderTableId;
     }
@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.util.List;
+
+public interface OrderBatchRepository {
+    List<Order> insertAll(List<Order> orders);
+}
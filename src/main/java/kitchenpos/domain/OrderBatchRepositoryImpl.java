@@ -0,0 +1,62 @@
+package kitchenpos.domain;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+public class OrderBatchRepositoryImpl implements OrderBatchRepository {
+    private static final String INSERT_ORDER =
+        "insert into orders (id, delivery_address, order_date_time, status, type, order_table_id, idempotency_key, "
+            + "idempotency_fingerprint) values (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_LINE_ITEM =
+        "insert into order_line_item (quantity, menu_id, order_id) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderBatchRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Order> insertAll(final List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        final List<Object[]> orderRows = new ArrayList<>();
+        final List<Object[]> orderLineItemRows = new ArrayList<>();
+        for (final Order order : orders) {
+            final OrderTable orderTable = order.getOrderTable();
+            orderRows.add(new Object[]{
+                toBytes(order.getId()),
+                order.getDeliveryAddress(),
+                order.getOrderDateTime(),
+                order.getStatus().name(),
+                order.getType().name(),
+                Objects.isNull(orderTable) ? null : toBytes(orderTable.getId()),
+                order.getIdempotencyKey(),
+                order.getIdempotencyFingerprint()
+            });
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                orderLineItemRows.add(new Object[]{
+                    orderLineItem.getQuantity(),
+                    toBytes(orderLineItem.getMenu().getId()),
+                    toBytes(order.getId())
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER, orderRows);
+        jdbcTemplate.batchUpdate(INSERT_ORDER_LINE_ITEM, orderLineItemRows);
+        return orders;
+    }
+
+    private static byte[] toBytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
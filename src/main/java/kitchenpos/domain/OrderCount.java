@@ -0,0 +1,25 @@
+package kitchenpos.domain;
+
+public class OrderCount {
+    private final OrderStatus status;
+    private final OrderType type;
+    private final long count;
+
+    public OrderCount(final OrderStatus status, final OrderType type, final long count) {
+        this.status = status;
+        this.type = type;
+        this.count = count;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
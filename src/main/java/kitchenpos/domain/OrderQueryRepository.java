@@ -0,0 +1,15 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderQueryRepository {
+    List<Order> findAllByCondition(OrderSearchCondition condition, int limit);
+
+    int updateStatus(UUID id, Collection<OrderType> types, OrderStatus from, OrderStatus to, LocalDateTime changedAt);
+
+    Optional<OrderStageStart> findStageStart(UUID id, OrderStatus stage);
+}
@@ -0,0 +1,103 @@
+package kitchenpos.domain;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class OrderQueryRepositoryImpl implements OrderQueryRepository {
+    private static final Map<OrderStatus, String> STATUS_DATE_TIMES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        STATUS_DATE_TIMES.put(OrderStatus.WAITING, "orderDateTime");
+        STATUS_DATE_TIMES.put(OrderStatus.ACCEPTED, "acceptedDateTime");
+        STATUS_DATE_TIMES.put(OrderStatus.SERVED, "servedDateTime");
+        STATUS_DATE_TIMES.put(OrderStatus.DELIVERING, "deliveringDateTime");
+        STATUS_DATE_TIMES.put(OrderStatus.DELIVERED, "deliveredDateTime");
+        STATUS_DATE_TIMES.put(OrderStatus.COMPLETED, "completedDateTime");
+    }
+
+    private final EntityManager entityManager;
+
+    public OrderQueryRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Order> findAllByCondition(final OrderSearchCondition condition, final int limit) {
+        final StringBuilder jpql = new StringBuilder("select o from Order o left join fetch o.orderTable where 1 = 1");
+        if (condition.getStatus() != null) {
+            jpql.append(" and o.status = :status");
+        }
+        if (condition.getType() != null) {
+            jpql.append(" and o.type = :type");
+        }
+        if (condition.getFrom() != null) {
+            jpql.append(" and o.orderDateTime >= :from");
+        }
+        if (condition.getTo() != null) {
+            jpql.append(" and o.orderDateTime < :to");
+        }
+        if (condition.hasCursor()) {
+            jpql.append(" and (o.orderDateTime < :cursorDateTime")
+                .append(" or (o.orderDateTime = :cursorDateTime and o.id < :cursorId))");
+        }
+        jpql.append(" order by o.orderDateTime desc, o.id desc");
+        final TypedQuery<Order> query = entityManager.createQuery(jpql.toString(), Order.class);
+        if (condition.getStatus() != null) {
+            query.setParameter("status", condition.getStatus());
+        }
+        if (condition.getType() != null) {
+            query.setParameter("type", condition.getType());
+        }
+        if (condition.getFrom() != null) {
+            query.setParameter("from", condition.getFrom());
+        }
+        if (condition.getTo() != null) {
+            query.setParameter("to", condition.getTo());
+        }
+        if (condition.hasCursor()) {
+            query.setParameter("cursorDateTime", condition.getCursorDateTime());
+            query.setParameter("cursorId", condition.getCursorId());
+        }
+        return query.setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public int updateStatus(
+        final UUID id,
+        final Collection<OrderType> types,
+        final OrderStatus from,
+        final OrderStatus to,
+        final LocalDateTime changedAt
+    ) {
+        return entityManager.createQuery(
+                "update Order o set o.status = :to, o." + STATUS_DATE_TIMES.get(to) + " = :changedAt"
+                    + " where o.id = :id and o.status = :from and o.type in :types"
+            )
+            .setParameter("to", to)
+            .setParameter("changedAt", changedAt)
+            .setParameter("id", id)
+            .setParameter("from", from)
+            .setParameter("types", types)
+            .executeUpdate();
+    }
+
+    @Override
+    public Optional<OrderStageStart> findStageStart(final UUID id, final OrderStatus stage) {
+        return entityManager.createQuery(
+                "select new kitchenpos.domain.OrderStageStart(o.type, o." + STATUS_DATE_TIMES.get(stage) + ")"
+                    + " from Order o where o.id = :id",
+                OrderStageStart.class
+            )
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst();
+    }
+}
@@ -1,5 +1,7 @@
 package kitchenpos.domain;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,10 +9,22 @@ import java.util.UUID;
 public interface OrderRepository {
     Order save(Order order);
 
+    List<Order> insertAll(List<Order> orders);
+
     Optional<Order> findById(UUID id);
 
+    Optional<Order> findByIdempotencyKey(String idempotencyKey);
+
     List<Order> findAll();
 
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+    List<Order> findAllByCondition(OrderSearchCondition condition, int limit);
+
+    boolean existsById(UUID id);
+
+    List<OrderCount> countAllByStatusInGroupByStatusAndType(Collection<OrderStatus> statuses);
+
+    int updateStatus(UUID id, Collection<OrderType> types, OrderStatus from, OrderStatus to, LocalDateTime changedAt);
+
+    Optional<OrderStageStart> findStageStart(UUID id, OrderStatus stage);
 }
 
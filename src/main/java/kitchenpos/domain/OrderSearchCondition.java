@@ -0,0 +1,57 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class OrderSearchCondition {
+    private final OrderStatus status;
+    private final OrderType type;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final LocalDateTime cursorDateTime;
+    private final UUID cursorId;
+
+    public OrderSearchCondition(
+        final OrderStatus status,
+        final OrderType type,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final LocalDateTime cursorDateTime,
+        final UUID cursorId
+    ) {
+        this.status = status;
+        this.type = type;
+        this.from = from;
+        this.to = to;
+        this.cursorDateTime = cursorDateTime;
+        this.cursorId = cursorId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public LocalDateTime getCursorDateTime() {
+        return cursorDateTime;
+    }
+
+    public UUID getCursorId() {
+        return cursorId;
+    }
+
+    public boolean hasCursor() {
+        return cursorDateTime != null && cursorId != null;
+    }
+}
@@ -0,0 +1,21 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+
+public class OrderStageStart {
+    private final OrderType type;
+    private final LocalDateTime startedAt;
+
+    public OrderStageStart(final OrderType type, final LocalDateTime startedAt) {
+        this.type = type;
+        this.startedAt = startedAt;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+}
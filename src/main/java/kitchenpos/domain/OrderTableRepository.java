@@ -10,5 +10,11 @@ public interface OrderTableRepository {
     Optional<OrderTable> findById(UUID id);
 
     List<OrderTable> findAll();
+
+    List<OrderTable> findAllByIdIn(List<UUID> ids);
+
+    int addOpenOrderCount(UUID id, int delta);
+
+    int clearIfNoOpenOrders(UUID id);
 }
 
@@ -9,8 +9,13 @@ public interface ProductRepository {
 
     Optional<Product> findById(UUID id);
 
+    Optional<Product> findWithLockById(UUID id);
+
     List<Product> findAll();
 
     List<Product> findAllByIdIn(List<UUID> ids);
-}
 
+    List<Product> findAllWithLockByIdIn(List<UUID> ids);
+
+    List<Product> findAllWithShareLockByIdIn(List<UUID> ids);
+}
@@ -0,0 +1,150 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Primary
+@ConditionalOnProperty(name = "kitchenpos.purgomalum.mode", havingValue = "remote", matchIfMissing = true)
+@Component
+public class CachingPurgomalumClient implements PurgomalumClient {
+    private final PurgomalumClient delegate;
+    private final Map<String, Entry> cache;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Timer remoteTimer;
+
+    @Autowired
+    public CachingPurgomalumClient(
+        @Qualifier("defaultPurgomalumClient") final PurgomalumClient delegate,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.purgomalum.cache.max-entries:10000}") final int maxEntries,
+        @Value("${kitchenpos.purgomalum.cache.ttl:1h}") final Duration ttl
+    ) {
+        this(delegate, meterRegistry, maxEntries, ttl, System::currentTimeMillis);
+    }
+
+    CachingPurgomalumClient(
+        final PurgomalumClient delegate,
+        final MeterRegistry meterRegistry,
+        final int maxEntries,
+        final Duration ttl,
+        final LongSupplier clock
+    ) {
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        this.coalesced = lookups(meterRegistry, "coalesced");
+        this.remoteTimer = Timer.builder("kitchenpos.purgomalum.remote")
+            .register(meterRegistry);
+        Gauge.builder("kitchenpos.purgomalum.cache.size", this, CachingPurgomalumClient::size)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        final Boolean cached = get(text);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        final CompletableFuture<Boolean> created = new CompletableFuture<>();
+        final CompletableFuture<Boolean> existing = inFlight.putIfAbsent(text, created);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+        misses.increment();
+        try {
+            final boolean result = remoteTimer.record(() -> delegate.containsProfanity(text));
+            put(text, result);
+            created.complete(result);
+            return result;
+        } catch (final RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(text, created);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private Boolean get(final String text) {
+        synchronized (cache) {
+            final Entry entry = cache.get(text);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= clock.getAsLong()) {
+                cache.remove(text);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void put(final String text, final boolean value) {
+        synchronized (cache) {
+            cache.put(text, new Entry(value, clock.getAsLong() + ttlMillis));
+        }
+    }
+
+    private static boolean join(final CompletableFuture<Boolean> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("kitchenpos.purgomalum.lookups")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private static class Entry {
+        private final boolean value;
+        private final long expiresAt;
+
+        private Entry(final boolean value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,13 +1,60 @@
 package kitchenpos.infra;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.UUID;
 
 @Component
 public class DefaultKitchenridersClient implements KitchenridersClient {
+    private final RestTemplate restTemplate;
+    private final String url;
+
+    public DefaultKitchenridersClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        @Value("${kitchenpos.kitchenriders.url:}") final String url,
+        @Value("${kitchenpos.kitchenriders.connect-timeout:1s}") final Duration connectTimeout,
+        @Value("${kitchenpos.kitchenriders.read-timeout:2s}") final Duration readTimeout
+    ) {
+        this.restTemplate = restTemplateBuilder.setConnectTimeout(connectTimeout)
+            .setReadTimeout(readTimeout)
+            .build();
+        this.url = url;
+    }
+
     @Override
     public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        if (url.isEmpty()) {
+            return;
+        }
+        restTemplate.postForLocation(url + "/api/deliveries", new DeliveryRequest(orderId, amount, deliveryAddress));
+    }
+
+    private static class DeliveryRequest {
+        private final UUID orderId;
+        private final BigDecimal amount;
+        private final String deliveryAddress;
+
+        private DeliveryRequest(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+            this.orderId = orderId;
+            this.amount = amount;
+            this.deliveryAddress = deliveryAddress;
+        }
+
+        public UUID getOrderId() {
+            return orderId;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public String getDeliveryAddress() {
+            return deliveryAddress;
+        }
     }
 }
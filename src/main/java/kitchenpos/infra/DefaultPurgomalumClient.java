@@ -1,26 +1,33 @@
 package kitchenpos.infra;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
+import java.time.Duration;
 
 @Component
 public class DefaultPurgomalumClient implements PurgomalumClient {
     private final RestTemplate restTemplate;
+    private final String url;
 
-    public DefaultPurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    public DefaultPurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        @Value("${kitchenpos.purgomalum.url:https://www.purgomalum.com}") final String url,
+        @Value("${kitchenpos.purgomalum.connect-timeout:1s}") final Duration connectTimeout,
+        @Value("${kitchenpos.purgomalum.read-timeout:2s}") final Duration readTimeout
+    ) {
+        this.restTemplate = restTemplateBuilder.setConnectTimeout(connectTimeout)
+            .setReadTimeout(readTimeout)
+            .build();
+        this.url = url;
     }
 
     @Override
     public boolean containsProfanity(final String text) {
-        final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
-            .queryParam("text", text)
-            .build()
-            .toUri();
-        return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+        return Boolean.parseBoolean(
+            restTemplate.getForObject(url + "/service/containsprofanity?text={text}", String.class, text)
+        );
     }
 }
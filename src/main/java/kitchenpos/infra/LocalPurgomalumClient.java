@@ -0,0 +1,78 @@
+package kitchenpos.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Primary
+@ConditionalOnProperty(name = "kitchenpos.purgomalum.mode", havingValue = "local")
+@Component
+public class LocalPurgomalumClient implements PurgomalumClient {
+    private static final String COMMENT = "#";
+
+    private static final Logger log = LoggerFactory.getLogger(LocalPurgomalumClient.class);
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final PurgomalumClient fallback;
+    private volatile ProfanityMatcher matcher;
+
+    public LocalPurgomalumClient(
+        final ResourceLoader resourceLoader,
+        @Value("${kitchenpos.purgomalum.words:classpath:profanity/words.txt}") final String location,
+        @Qualifier("defaultPurgomalumClient") final PurgomalumClient fallback
+    ) {
+        this.resourceLoader = resourceLoader;
+        this.location = location;
+        this.fallback = fallback;
+        try {
+            reload();
+        } catch (final UncheckedIOException e) {
+            log.warn("Could not load the profanity word list from {}; names are checked remotely until it loads", location, e);
+        }
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        final ProfanityMatcher current = matcher;
+        if (Objects.isNull(current) || current.isEmpty()) {
+            return fallback.containsProfanity(text);
+        }
+        return current.matches(text);
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.purgomalum.reload-interval:300000}",
+        fixedDelayString = "${kitchenpos.purgomalum.reload-interval:300000}"
+    )
+    public void reload() {
+        final Resource resource = resourceLoader.getResource(location);
+        try (final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            final List<String> words = reader.lines()
+                .map(String::trim)
+                .filter(word -> !word.isEmpty() && !word.startsWith(COMMENT))
+                .collect(Collectors.toList());
+            matcher = ProfanityMatcher.of(words);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package kitchenpos.infra;
+
+import java.util.*;
+
+public class ProfanityMatcher {
+    private static final int ROOT = 0;
+    private static final char SEPARATOR = ' ';
+
+    private final char[][] keys;
+    private final int[][] targets;
+    private final int[] failures;
+    private final boolean[] terminals;
+
+    private ProfanityMatcher(final char[][] keys, final int[][] targets, final int[] failures, final boolean[] terminals) {
+        this.keys = keys;
+        this.targets = targets;
+        this.failures = failures;
+        this.terminals = terminals;
+    }
+
+    public static ProfanityMatcher of(final Collection<String> words) {
+        final List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        final List<Boolean> terminals = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        terminals.add(false);
+        for (final String word : words) {
+            final String key = normalize(word);
+            if (key.length() == 1) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < key.length(); i++) {
+                Integer next = transitions.get(state).get(key.charAt(i));
+                if (Objects.isNull(next)) {
+                    next = transitions.size();
+                    transitions.get(state).put(key.charAt(i), next);
+                    transitions.add(new TreeMap<>());
+                    terminals.add(false);
+                }
+                state = next;
+            }
+            terminals.set(state, true);
+        }
+        final int size = transitions.size();
+        final char[][] keys = new char[size][];
+        final int[][] targets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            final TreeMap<Character, Integer> transition = transitions.get(state);
+            keys[state] = new char[transition.size()];
+            targets[state] = new int[transition.size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> entry : transition.entrySet()) {
+                keys[state][index] = entry.getKey();
+                targets[state][index] = entry.getValue();
+                index++;
+            }
+        }
+        final boolean[] terminal = new boolean[size];
+        for (int state = 0; state < size; state++) {
+            terminal[state] = terminals.get(state);
+        }
+        final int[] failures = new int[size];
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (final int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (int index = 0; index < keys[state].length; index++) {
+                final char key = keys[state][index];
+                final int child = targets[state][index];
+                int failure = failures[state];
+                while (failure != ROOT && next(keys, targets, failure, key) < 0) {
+                    failure = failures[failure];
+                }
+                final int next = next(keys, targets, failure, key);
+                failures[child] = next < 0 ? ROOT : next;
+                terminal[child] |= terminal[failures[child]];
+                queue.add(child);
+            }
+        }
+        return new ProfanityMatcher(keys, targets, failures, terminal);
+    }
+
+    public boolean matches(final String text) {
+        final String key = normalize(text);
+        int state = ROOT;
+        for (int i = 0; i < key.length(); i++) {
+            int next = next(keys, targets, state, key.charAt(i));
+            while (next < 0 && state != ROOT) {
+                state = failures[state];
+                next = next(keys, targets, state, key.charAt(i));
+            }
+            state = next < 0 ? ROOT : next;
+            if (terminals[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return keys[ROOT].length == 0;
+    }
+
+    private static String normalize(final String text) {
+        final StringBuilder normalized = new StringBuilder(text.length() + 2).append(SEPARATOR);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            } else if (normalized.charAt(normalized.length() - 1) != SEPARATOR) {
+                normalized.append(SEPARATOR);
+            }
+        }
+        if (normalized.charAt(normalized.length() - 1) != SEPARATOR) {
+            normalized.append(SEPARATOR);
+        }
+        return normalized.toString();
+    }
+
+    private static int next(final char[][] keys, final int[][] targets, final int state, final char key) {
+        final int index = Arrays.binarySearch(keys[state], key);
+        return index < 0 ? -1 : targets[state][index];
+    }
+}
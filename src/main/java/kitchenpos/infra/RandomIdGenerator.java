@@ -0,0 +1,16 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.IdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.id-generator", havingValue = "random")
+@Component
+public class RandomIdGenerator implements IdGenerator {
+    @Override
+    public UUID generate() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,48 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around(
+        "execution(public * kitchenpos.application.OrderService.*(..))"
+            + " || execution(public * kitchenpos.application.MenuService.*(..))"
+            + " || execution(public * kitchenpos.application.ProductService.*(..))"
+            + " || execution(public * kitchenpos.application.OrderTableService.*(..))"
+            + " || execution(public * kitchenpos.application.MenuGroupService.*(..))"
+    )
+    public Object record(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (final Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("kitchenpos.service")
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("outcome", NONE.equals(exception) ? "success" : "failure")
+                .tag("exception", exception)
+                .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package kitchenpos.infra;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public class StatementCountingDataSource extends DelegatingDataSource implements AutoCloseable {
+    private static final Set<String> EXECUTE_METHODS = new HashSet<>(Arrays.asList(
+        "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch"
+    ));
+
+    public StatementCountingDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return proxy(super.getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws Exception {
+        final DataSource target = getTargetDataSource();
+        if (target instanceof AutoCloseable) {
+            ((AutoCloseable) target).close();
+        }
+    }
+
+    private static Connection proxy(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+            StatementCountingDataSource.class.getClassLoader(),
+            new Class<?>[]{ConnectionProxy.class},
+            new ConnectionHandler(connection)
+        );
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+
+        private ConnectionHandler(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                default:
+                    break;
+            }
+            final Object result = StatementCountingDataSource.invoke(target, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return Proxy.newProxyInstance(
+                    StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{method.getReturnType()},
+                    new StatementHandler((Statement) result, (Connection) proxy)
+                );
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final Connection connection;
+
+        private StatementHandler(final Statement target, final Connection connection) {
+            this.target = target;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                default:
+                    break;
+            }
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+            final long startedAt = System.nanoTime();
+            try {
+                return StatementCountingDataSource.invoke(target, method, args);
+            } finally {
+                StatementStatistics.record(System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@ConditionalOnProperty(name = "kitchenpos.statement-statistics.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof StatementCountingDataSource)) {
+            return new StatementCountingDataSource((DataSource) bean);
+        }
+        return bean;
+    }
+}
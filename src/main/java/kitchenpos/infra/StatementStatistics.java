@@ -0,0 +1,36 @@
+package kitchenpos.infra;
+
+import java.time.Duration;
+
+public class StatementStatistics {
+    private static final ThreadLocal<long[]> TOTALS = ThreadLocal.withInitial(() -> new long[2]);
+    private static final int COUNT = 0;
+    private static final int NANOS = 1;
+
+    private final long startCount;
+    private final long startNanos;
+
+    private StatementStatistics(final long startCount, final long startNanos) {
+        this.startCount = startCount;
+        this.startNanos = startNanos;
+    }
+
+    public static StatementStatistics start() {
+        final long[] totals = TOTALS.get();
+        return new StatementStatistics(totals[COUNT], totals[NANOS]);
+    }
+
+    static void record(final long nanos) {
+        final long[] totals = TOTALS.get();
+        totals[COUNT]++;
+        totals[NANOS] += nanos;
+    }
+
+    public long getCount() {
+        return TOTALS.get()[COUNT] - startCount;
+    }
+
+    public Duration getElapsed() {
+        return Duration.ofNanos(TOTALS.get()[NANOS] - startNanos);
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.infra;
+
+import kitchenpos.domain.IdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/** UUIDv7 whose ids are strictly increasing per thread. */
+@ConditionalOnProperty(name = "kitchenpos.id-generator", havingValue = "time-ordered", matchIfMissing = true)
+@Component
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final int MAX_COUNTER = 0xFFF;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    private final ThreadLocal<State> states = ThreadLocal.withInitial(State::new);
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID generate() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final State state = states.get();
+        final long now = clock.getAsLong();
+        if (now > state.millis) {
+            state.millis = now;
+            state.counter = random.nextInt(MAX_COUNTER / 2);
+        } else if (++state.counter > MAX_COUNTER) {
+            state.millis++;
+            state.counter = 0;
+        }
+        final long mostSigBits = (state.millis << 16) | VERSION | state.counter;
+        final long leastSigBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private static class State {
+        private long millis = -1L;
+        private int counter;
+    }
+}
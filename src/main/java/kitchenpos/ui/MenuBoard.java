@@ -0,0 +1,84 @@
+package kitchenpos.ui;
+
+public class MenuBoard {
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY = "*";
+    private static final double UNSPECIFIED = -1.0;
+
+    private final long version;
+    private final String eTag;
+    private final byte[] body;
+    private final byte[] gzippedBody;
+
+    public MenuBoard(final long version, final String eTag, final byte[] body, final byte[] gzippedBody) {
+        this.version = version;
+        this.eTag = eTag;
+        this.body = body;
+        this.gzippedBody = gzippedBody;
+    }
+
+    public boolean matches(final String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (final String candidate : ifNoneMatch.split(",")) {
+            final String tag = candidate.trim();
+            if ("*".equals(tag) || eTag.equals(tag) || ("W/" + eTag).equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipQuality = UNSPECIFIED;
+        double anyQuality = UNSPECIFIED;
+        for (final String candidate : acceptEncoding.split(",")) {
+            final String[] parts = candidate.split(";");
+            final String coding = parts[0].trim();
+            if (GZIP.equalsIgnoreCase(coding) || X_GZIP.equalsIgnoreCase(coding)) {
+                gzipQuality = Math.max(gzipQuality, quality(parts));
+            } else if (ANY.equals(coding)) {
+                anyQuality = quality(parts);
+            }
+        }
+        if (gzipQuality != UNSPECIFIED) {
+            return gzipQuality > 0;
+        }
+        return anyQuality > 0;
+    }
+
+    private static double quality(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (final NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public byte[] getGzippedBody() {
+        return gzippedBody;
+    }
+}
@@ -0,0 +1,73 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.MenuCatalog;
+import kitchenpos.application.MenuService;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class MenuBoardCache {
+    private final MenuService menuService;
+    private final MenuCatalog menuCatalog;
+    private final ObjectMapper objectMapper;
+    private volatile MenuBoard menuBoard;
+
+    public MenuBoardCache(final MenuService menuService, final MenuCatalog menuCatalog, final ObjectMapper objectMapper) {
+        this.menuService = menuService;
+        this.menuCatalog = menuCatalog;
+        this.objectMapper = objectMapper;
+    }
+
+    public MenuBoard get() {
+        final long version = menuCatalog.getVersion();
+        final MenuBoard current = menuBoard;
+        if (Objects.nonNull(current) && current.getVersion() == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (Objects.nonNull(menuBoard) && menuBoard.getVersion() == version) {
+                return menuBoard;
+            }
+            final byte[] body = serialize();
+            menuBoard = new MenuBoard(version, eTag(body), body, gzip(body));
+            return menuBoard;
+        }
+    }
+
+    private byte[] serialize() {
+        try {
+            return objectMapper.writeValueAsBytes(menuService.findAll());
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String eTag(final byte[] body) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,7 +1,11 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.MenuResponse;
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -12,10 +16,14 @@ import java.util.UUID;
 @RequestMapping("/api/menus")
 @RestController
 public class MenuRestController {
+    private static final String GZIP = "gzip";
+
     private final MenuService menuService;
+    private final MenuBoardCache menuBoardCache;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(final MenuService menuService, final MenuBoardCache menuBoardCache) {
         this.menuService = menuService;
+        this.menuBoardCache = menuBoardCache;
     }
 
     @PostMapping
@@ -40,8 +48,31 @@ public class MenuRestController {
         return ResponseEntity.ok(menuService.hide(menuId));
     }
 
+    @GetMapping("/overpriced")
+    public ResponseEntity<List<MenuResponse>> findAllOverpriced() {
+        return ResponseEntity.ok(menuService.findAllOverpriced());
+    }
+
     @GetMapping
-    public ResponseEntity<List<Menu>> findAll() {
-        return ResponseEntity.ok(menuService.findAll());
+    public ResponseEntity<byte[]> findAll(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final MenuBoard menuBoard = menuBoardCache.get();
+        if (menuBoard.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(menuBoard.getETag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(menuBoard.getETag())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (MenuBoard.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(menuBoard.getGzippedBody());
+        }
+        return response.body(menuBoard.getBody());
     }
 }
@@ -1,57 +1,140 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.IdempotencyKeyMismatchException;
+import kitchenpos.application.IdempotentOrderService;
+import kitchenpos.application.OrderBatchResult;
+import kitchenpos.application.OrderPage;
+import kitchenpos.application.OrderResponse;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderTransition;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String PREFER_HEADER = "Prefer";
+    private static final String RETURN_MINIMAL = "return=minimal";
+
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(final OrderService orderService, final IdempotentOrderService idempotentOrderService) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
     }
 
     @PostMapping
-    public ResponseEntity<Order> create(@RequestBody final Order request) {
-        final Order response = orderService.create(request);
-        return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
-            .body(response);
+    public ResponseEntity<OrderResponse> create(
+        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) final String idempotencyKey,
+        @RequestBody final Order request
+    ) {
+        final Order order = Objects.isNull(idempotencyKey)
+            ? orderService.create(request)
+            : idempotentOrderService.create(idempotencyKey, request);
+        return ResponseEntity.created(URI.create("/api/orders/" + order.getId()))
+            .body(OrderResponse.from(order));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchResult>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(orderService.createAll(requests));
     }
 
     @PutMapping("/{orderId}/accept")
-    public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.accept(orderId));
+    public ResponseEntity<OrderResponse> accept(
+        @PathVariable final UUID orderId,
+        @RequestHeader(value = PREFER_HEADER, required = false) final String prefer
+    ) {
+        if (RETURN_MINIMAL.equals(prefer)) {
+            return transit(orderId, OrderTransition.ACCEPT);
+        }
+        return ResponseEntity.ok(OrderResponse.from(orderService.accept(orderId)));
     }
 
     @PutMapping("/{orderId}/serve")
-    public ResponseEntity<Order> serve(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.serve(orderId));
+    public ResponseEntity<OrderResponse> serve(
+        @PathVariable final UUID orderId,
+        @RequestHeader(value = PREFER_HEADER, required = false) final String prefer
+    ) {
+        if (RETURN_MINIMAL.equals(prefer)) {
+            return transit(orderId, OrderTransition.SERVE);
+        }
+        return ResponseEntity.ok(OrderResponse.from(orderService.serve(orderId)));
     }
 
     @PutMapping("/{orderId}/start-delivery")
-    public ResponseEntity<Order> startDelivery(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.startDelivery(orderId));
+    public ResponseEntity<OrderResponse> startDelivery(
+        @PathVariable final UUID orderId,
+        @RequestHeader(value = PREFER_HEADER, required = false) final String prefer
+    ) {
+        if (RETURN_MINIMAL.equals(prefer)) {
+            return transit(orderId, OrderTransition.START_DELIVERY);
+        }
+        return ResponseEntity.ok(OrderResponse.from(orderService.startDelivery(orderId)));
     }
 
     @PutMapping("/{orderId}/complete-delivery")
-    public ResponseEntity<Order> completeDelivery(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.completeDelivery(orderId));
+    public ResponseEntity<OrderResponse> completeDelivery(
+        @PathVariable final UUID orderId,
+        @RequestHeader(value = PREFER_HEADER, required = false) final String prefer
+    ) {
+        if (RETURN_MINIMAL.equals(prefer)) {
+            return transit(orderId, OrderTransition.COMPLETE_DELIVERY);
+        }
+        return ResponseEntity.ok(OrderResponse.from(orderService.completeDelivery(orderId)));
     }
 
     @PutMapping("/{orderId}/complete")
-    public ResponseEntity<Order> complete(@PathVariable final UUID orderId) {
-        return ResponseEntity.ok(orderService.complete(orderId));
+    public ResponseEntity<OrderResponse> complete(
+        @PathVariable final UUID orderId,
+        @RequestHeader(value = PREFER_HEADER, required = false) final String prefer
+    ) {
+        if (RETURN_MINIMAL.equals(prefer)) {
+            return transit(orderId, OrderTransition.COMPLETE);
+        }
+        return ResponseEntity.ok(OrderResponse.from(orderService.complete(orderId)));
+    }
+
+    private ResponseEntity<OrderResponse> transit(final UUID orderId, final OrderTransition transition) {
+        if (orderService.transit(orderId, transition)) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<OrderResponse>> findAll(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "20") final int size
+    ) {
+        final OrderPage page = orderService.findAll(status, type, from, to, cursor, size);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getOrders());
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    public ResponseEntity<Void> idempotencyKeyMismatch() {
+        return ResponseEntity.unprocessableEntity().build();
     }
 }
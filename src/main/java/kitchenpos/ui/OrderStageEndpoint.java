@@ -0,0 +1,24 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStageLatencies;
+import kitchenpos.application.OrderStageLatency;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Endpoint(id = "orderstages")
+@Component
+public class OrderStageEndpoint {
+    private final OrderStageLatencies orderStageLatencies;
+
+    public OrderStageEndpoint(final OrderStageLatencies orderStageLatencies) {
+        this.orderStageLatencies = orderStageLatencies;
+    }
+
+    @ReadOperation
+    public List<OrderStageLatency> latencies() {
+        return orderStageLatencies.getLatencies();
+    }
+}
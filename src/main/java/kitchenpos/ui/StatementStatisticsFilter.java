@@ -0,0 +1,95 @@
+package kitchenpos.ui;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.infra.StatementStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+/** Buffers the response so that statements run while serializing the body are counted. */
+@ConditionalOnProperty(name = "kitchenpos.statement-statistics.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class StatementStatisticsFilter extends OncePerRequestFilter {
+    public static final String STATEMENT_COUNT_HEADER = "X-Statement-Count";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatisticsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long maxStatements;
+    private final Duration maxLatency;
+
+    public StatementStatisticsFilter(
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.statement-statistics.max-statements:20}") final long maxStatements,
+        @Value("${kitchenpos.statement-statistics.max-latency:500ms}") final Duration maxLatency
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.maxLatency = maxLatency;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        final long startedAt = System.nanoTime();
+        final StatementStatistics statistics = StatementStatistics.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            final Duration latency = Duration.ofNanos(System.nanoTime() - startedAt);
+            final long count = statistics.getCount();
+            final Duration elapsed = statistics.getElapsed();
+            responseWrapper.setHeader(STATEMENT_COUNT_HEADER, String.valueOf(count));
+            responseWrapper.setHeader(
+                SERVER_TIMING_HEADER,
+                String.format(Locale.ROOT, "db;dur=%.3f, total;dur=%.3f", millis(elapsed), millis(latency))
+            );
+            record(request, count, elapsed);
+            if (count > maxStatements || latency.compareTo(maxLatency) > 0) {
+                log.warn("{} {} ran {} statements in {} ms, {} ms in total",
+                    request.getMethod(), request.getRequestURI(), count, millis(elapsed), millis(latency));
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void record(final HttpServletRequest request, final long count, final Duration elapsed) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final String uri = Objects.isNull(pattern) ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("kitchenpos.request.statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(count);
+        Timer.builder("kitchenpos.request.statement.time")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(elapsed);
+    }
+
+    private static double millis(final Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
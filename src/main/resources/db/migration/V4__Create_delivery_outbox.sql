@@ -0,0 +1,14 @@
+create table delivery_outbox
+(
+    seq              bigint         not null auto_increment,
+    order_id         binary(16)     not null,
+    amount           decimal(19, 2) not null,
+    delivery_address varchar(255)   not null,
+    attempts         integer        not null,
+    created_at       datetime(6)    not null,
+    next_attempt_at  datetime(6)    not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_delivery_outbox_next_attempt_at
+    on delivery_outbox (next_attempt_at, seq);
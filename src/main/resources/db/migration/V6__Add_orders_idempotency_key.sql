@@ -0,0 +1,6 @@
+alter table orders
+    add column idempotency_key varchar(64);
+
+alter table orders
+    add constraint uk_orders_idempotency_key
+        unique (idempotency_key);
@@ -0,0 +1,14 @@
+alter table orders
+    add column accepted_date_time datetime(6);
+
+alter table orders
+    add column served_date_time datetime(6);
+
+alter table orders
+    add column delivering_date_time datetime(6);
+
+alter table orders
+    add column delivered_date_time datetime(6);
+
+alter table orders
+    add column completed_date_time datetime(6);
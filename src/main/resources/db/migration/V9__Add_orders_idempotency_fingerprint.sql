@@ -0,0 +1,2 @@
+alter table orders
+    add column idempotency_fingerprint varchar(44);
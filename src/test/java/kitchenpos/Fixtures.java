@@ -27,6 +27,13 @@ public class Fixtures {
         menu.setMenuGroup(menuGroup());
         menu.setDisplayed(displayed);
         menu.setMenuProducts(Arrays.asList(menuProducts));
+        menu.setProductPriceSum(
+            Arrays.stream(menuProducts)
+                .map(menuProduct -> menuProduct.getProduct()
+                    .getPrice()
+                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+        );
         return menu;
     }
 
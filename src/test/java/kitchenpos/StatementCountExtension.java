@@ -0,0 +1,41 @@
+package kitchenpos;
+
+import kitchenpos.infra.StatementStatistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StatementCountExtension.class);
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), StatementStatistics.start());
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final StatementStatistics statistics = context.getStore(NAMESPACE)
+            .remove(context.getUniqueId(), StatementStatistics.class);
+        final Optional<MaxStatements> maxStatements = maxStatements(context);
+        if (!maxStatements.isPresent() || context.getExecutionException().isPresent()) {
+            return;
+        }
+        assertThat(statistics.getCount())
+            .as("statements run by %s", context.getDisplayName())
+            .isLessThanOrEqualTo(maxStatements.get().value());
+    }
+
+    private static Optional<MaxStatements> maxStatements(final ExtensionContext context) {
+        final Optional<MaxStatements> annotation = AnnotationSupport.findAnnotation(context.getTestMethod(), MaxStatements.class);
+        if (annotation.isPresent()) {
+            return annotation;
+        }
+        return AnnotationSupport.findAnnotation(context.getTestClass(), MaxStatements.class);
+    }
+}
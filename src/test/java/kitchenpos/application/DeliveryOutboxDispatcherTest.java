@@ -0,0 +1,71 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.DeliveryOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DeliveryOutboxDispatcherTest {
+    private InMemoryDeliveryOutboxRepository deliveryOutboxRepository;
+    private DeliveryOutboxService deliveryOutboxService;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        deliveryOutboxRepository = new InMemoryDeliveryOutboxRepository();
+        deliveryOutboxService = new DeliveryOutboxService(deliveryOutboxRepository);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("배달 대행사 호출에 성공한 배달 요청은 아웃박스에서 제거된다.")
+    @Test
+    void dispatch() {
+        final UUID orderId = UUID.randomUUID();
+        deliveryOutboxRepository.save(deliveryOutbox(orderId));
+        final FakeKitchenridersClient kitchenridersClient = new FakeKitchenridersClient();
+        final DeliveryOutboxDispatcher dispatcher = new DeliveryOutboxDispatcher(
+            deliveryOutboxService, kitchenridersClient, meterRegistry, 100
+        );
+        dispatcher.dispatch();
+        assertAll(
+            () -> assertThat(kitchenridersClient.getOrderId()).isEqualTo(orderId),
+            () -> assertThat(kitchenridersClient.getDeliveryAddress()).isEqualTo("서울시 송파구 위례성대로 2"),
+            () -> assertThat(deliveryOutboxRepository.count()).isZero(),
+            () -> assertThat(meterRegistry.get("kitchenpos.delivery.outbox.depth").gauge().value()).isZero()
+        );
+    }
+
+    @DisplayName("배달 대행사 호출에 실패한 배달 요청은 나중에 다시 시도한다.")
+    @Test
+    void dispatchFailure() {
+        deliveryOutboxRepository.save(deliveryOutbox(UUID.randomUUID()));
+        final DeliveryOutboxDispatcher dispatcher = new DeliveryOutboxDispatcher(
+            deliveryOutboxService,
+            (orderId, amount, deliveryAddress) -> {
+                throw new IllegalStateException();
+            },
+            meterRegistry,
+            100
+        );
+        dispatcher.dispatch();
+        final DeliveryOutbox actual = deliveryOutboxRepository.findAll().get(0);
+        assertAll(
+            () -> assertThat(actual.getAttempts()).isEqualTo(1),
+            () -> assertThat(actual.getNextAttemptAt()).isAfter(LocalDateTime.now()),
+            () -> assertThat(deliveryOutboxService.claim(100)).isEmpty()
+        );
+    }
+
+    private DeliveryOutbox deliveryOutbox(final UUID orderId) {
+        return new DeliveryOutbox(orderId, BigDecimal.valueOf(19_000L), "서울시 송파구 위례성대로 2", LocalDateTime.now());
+    }
+}
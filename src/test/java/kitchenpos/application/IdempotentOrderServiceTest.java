@@ -0,0 +1,195 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.*;
+import kitchenpos.infra.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class IdempotentOrderServiceTest {
+    private OrderRepository orderRepository;
+    private MenuRepository menuRepository;
+    private OrderService orderService;
+    private IdempotentOrderService idempotentOrderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        menuRepository = new InMemoryMenuRepository();
+        orderService = new OrderService(
+            orderRepository,
+            new MenuCatalog(menuRepository),
+            new InMemoryOrderTableRepository(),
+            new InMemoryDeliveryOutboxRepository(),
+            new TimeOrderedIdGenerator(),
+            event -> {
+            }
+        );
+        idempotentOrderService = new IdempotentOrderService(orderService, 1_000, Duration.ofHours(24));
+    }
+
+    @DisplayName("같은 멱등 키로 다시 요청하면 처음 등록한 주문을 돌려준다.")
+    @Test
+    void create() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final Order first = idempotentOrderService.create("key", createOrderRequest(menuId));
+        final Order second = idempotentOrderService.create("key", createOrderRequest(menuId));
+        assertAll(
+            () -> assertThat(second.getId()).isEqualTo(first.getId()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("멱등 키가 저장소에서 밀려나도 이미 등록된 주문을 돌려준다.")
+    @Test
+    void createAfterEviction() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final Order first = idempotentOrderService.create("key", createOrderRequest(menuId));
+        final IdempotentOrderService restarted = new IdempotentOrderService(orderService, 1_000, Duration.ofHours(24));
+        final Order second = restarted.create("key", createOrderRequest(menuId));
+        assertAll(
+            () -> assertThat(second.getId()).isEqualTo(first.getId()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("멱등 키가 다르면 새로운 주문을 등록한다.")
+    @Test
+    void createWithDifferentKey() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        idempotentOrderService.create("key1", createOrderRequest(menuId));
+        idempotentOrderService.create("key2", createOrderRequest(menuId));
+        assertThat(orderRepository.findAll()).hasSize(2);
+    }
+
+    @DisplayName("멱등 키가 올바르지 않으면 등록할 수 없다.")
+    @NullAndEmptySource
+    @ParameterizedTest
+    void create(final String idempotencyKey) {
+        assertThatThrownBy(() -> idempotentOrderService.create(idempotencyKey, new Order()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("같은 멱등 키로 다른 내용의 주문을 요청하면 거부한다.")
+    @Test
+    void createWithDifferentRequest() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID otherMenuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        idempotentOrderService.create("key", createOrderRequest(menuId));
+        assertAll(
+            () -> assertThatThrownBy(() -> idempotentOrderService.create("key", createOrderRequest(otherMenuId)))
+                .isInstanceOf(IdempotencyKeyMismatchException.class),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("멱등 키가 저장소에서 밀려난 뒤에도 다른 내용의 주문 요청은 거부한다.")
+    @Test
+    void createWithDifferentRequestAfterEviction() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID otherMenuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        idempotentOrderService.create("key", createOrderRequest(menuId));
+        final IdempotentOrderService restarted = new IdempotentOrderService(orderService, 1_000, Duration.ofHours(24));
+        assertThatThrownBy(() -> restarted.create("key", createOrderRequest(otherMenuId)))
+            .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @DisplayName("같은 잠금을 쓰는 다른 멱등 키는 진행 중인 요청을 기다리지 않는다.")
+    @Test
+    void computeIfAbsentWithoutHoldingLock() throws InterruptedException {
+        final IdempotencyKeyStore store = new IdempotencyKeyStore(1_000, 1_000L);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread slow = new Thread(() -> store.computeIfAbsent("Aa", "request", () -> {
+            entered.countDown();
+            awaitQuietly(release);
+            return UUID.randomUUID();
+        }));
+        slow.start();
+        entered.await();
+        try {
+            assertTimeoutPreemptively(
+                Duration.ofSeconds(5),
+                () -> store.computeIfAbsent("BB", "request", UUID::randomUUID)
+            );
+        } finally {
+            release.countDown();
+            slow.join();
+        }
+    }
+
+    @DisplayName("같은 멱등 키의 동시 요청은 먼저 시작한 요청의 결과를 기다려 돌려받는다.")
+    @Test
+    void computeIfAbsentConcurrently() throws Exception {
+        final IdempotencyKeyStore store = new IdempotencyKeyStore(1_000, 1_000L);
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final UUID expected = UUID.randomUUID();
+        final CompletableFuture<UUID> first = CompletableFuture.supplyAsync(() -> store.computeIfAbsent("key", "request", () -> {
+            entered.countDown();
+            awaitQuietly(release);
+            return expected;
+        }));
+        entered.await();
+        final CompletableFuture<UUID> second = CompletableFuture.supplyAsync(
+            () -> store.computeIfAbsent("key", "request", UUID::randomUUID)
+        );
+        release.countDown();
+        assertAll(
+            () -> assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(expected),
+            () -> assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(expected)
+        );
+    }
+
+    @DisplayName("유효 기간이 지난 멱등 키는 저장소에서 제거된다.")
+    @Test
+    void evictExpired() {
+        final long[] now = {0L};
+        final IdempotencyKeyStore store = new IdempotencyKeyStore(1_000, 1_000L, () -> now[0]);
+        final UUID first = store.computeIfAbsent("key", "request", UUID::randomUUID);
+        now[0] = 999L;
+        final UUID beforeExpiry = store.computeIfAbsent("key", "request", UUID::randomUUID);
+        now[0] = 1_000L;
+        final UUID afterExpiry = store.computeIfAbsent("key", "request", UUID::randomUUID);
+        assertAll(
+            () -> assertThat(beforeExpiry).isEqualTo(first),
+            () -> assertThat(afterExpiry).isNotEqualTo(first)
+        );
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Order createOrderRequest(final UUID menuId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(BigDecimal.valueOf(19_000L));
+        orderLineItem.setQuantity(1L);
+        final Order order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Arrays.asList(orderLineItem));
+        return order;
+    }
+}
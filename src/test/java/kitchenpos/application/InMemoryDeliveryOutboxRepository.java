@@ -0,0 +1,50 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.domain.DeliveryOutboxRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class InMemoryDeliveryOutboxRepository implements DeliveryOutboxRepository {
+    private final Map<Long, DeliveryOutbox> deliveries = new HashMap<>();
+    private long sequence;
+
+    @Override
+    public DeliveryOutbox save(final DeliveryOutbox deliveryOutbox) {
+        if (Objects.isNull(deliveryOutbox.getSeq())) {
+            deliveryOutbox.setSeq(++sequence);
+        }
+        deliveries.put(deliveryOutbox.getSeq(), deliveryOutbox);
+        return deliveryOutbox;
+    }
+
+    @Override
+    public List<DeliveryOutbox> findAllByNextAttemptAtLessThanEqualOrderBySeq(
+        final LocalDateTime now,
+        final Pageable pageable
+    ) {
+        return deliveries.values()
+            .stream()
+            .filter(delivery -> !delivery.getNextAttemptAt().isAfter(now))
+            .sorted(Comparator.comparing(DeliveryOutbox::getSeq))
+            .limit(pageable.getPageSize())
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(final Iterable<Long> seqs) {
+        seqs.forEach(deliveries::remove);
+    }
+
+    @Override
+    public long count() {
+        return deliveries.size();
+    }
+
+    public List<DeliveryOutbox> findAll() {
+        return new ArrayList<>(deliveries.values());
+    }
+}
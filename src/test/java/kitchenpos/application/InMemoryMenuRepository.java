@@ -1,8 +1,10 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuComposition;
 import kitchenpos.domain.MenuRepository;
 
+import java.math.BigDecimal;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,11 @@ public class InMemoryMenuRepository implements MenuRepository {
         return new ArrayList<>(menus.values());
     }
 
+    @Override
+    public List<Menu> findAllWithMenuProducts() {
+        return findAll();
+    }
+
     @Override
     public List<Menu> findAllByIdIn(final List<UUID> ids) {
         return menus.values()
@@ -34,10 +41,80 @@ public class InMemoryMenuRepository implements MenuRepository {
     }
 
     @Override
-    public List<Menu> findAllByProductId(final UUID productId) {
+    public List<Menu> findAllOverpricedByIdIn(final List<UUID> ids) {
         return menus.values()
             .stream()
-            .filter(menu -> menu.getMenuProducts().stream().anyMatch(menuProduct -> menuProduct.getProduct().getId().equals(productId)))
+            .filter(menu -> ids.contains(menu.getId()))
+            .filter(Menu::isDisplayed)
+            .filter(menu -> menu.getPrice().compareTo(menu.getProductPriceSum()) > 0)
             .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Menu> findAllOverpriced() {
+        return menus.values()
+            .stream()
+            .filter(menu -> menu.getPrice().compareTo(menu.getProductPriceSum()) > 0)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MenuComposition> findAllCompositions() {
+        return menus.values()
+            .stream()
+            .flatMap(menu -> menu.getMenuProducts()
+                .stream()
+                .map(menuProduct -> new MenuComposition(
+                    menu.getId(),
+                    menuProduct.getProduct().getId(),
+                    menuProduct.getQuantity()
+                )))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int addProductPriceSum(final List<UUID> ids, final BigDecimal delta) {
+        int count = 0;
+        for (final UUID id : ids) {
+            final Menu menu = menus.get(id);
+            if (Objects.nonNull(menu)) {
+                menu.setProductPriceSum(menu.getProductPriceSum().add(delta));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int refreshProductPriceSum(final List<UUID> ids) {
+        int count = 0;
+        for (final UUID id : ids) {
+            final Menu menu = menus.get(id);
+            if (Objects.nonNull(menu)) {
+                menu.setProductPriceSum(
+                    menu.getMenuProducts()
+                        .stream()
+                        .map(menuProduct -> menuProduct.getProduct()
+                            .getPrice()
+                            .multiply(BigDecimal.valueOf(menuProduct.getQuantity())))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add)
+                );
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int hideAllByIdIn(final List<UUID> ids) {
+        int count = 0;
+        for (final UUID id : ids) {
+            final Menu menu = menus.get(id);
+            if (Objects.nonNull(menu)) {
+                menu.setDisplayed(false);
+                count++;
+            }
+        }
+        return count;
+    }
 }
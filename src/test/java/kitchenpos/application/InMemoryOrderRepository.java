@@ -1,13 +1,20 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.Order;
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
-import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class InMemoryOrderRepository implements OrderRepository {
+    // binary(16) 열처럼 UUID를 부호 없는 바이트 순서로 비교한다.
+    private static final Comparator<UUID> BINARY_ORDER = Comparator.comparing(
+        UUID::getMostSignificantBits, Long::compareUnsigned
+    ).thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+    private static final Comparator<Order> LATEST_FIRST = Comparator.comparing(Order::getOrderDateTime)
+        .thenComparing(Order::getId, BINARY_ORDER)
+        .reversed();
+
     private final Map<UUID, Order> orders = new HashMap<>();
 
     @Override
@@ -16,20 +23,90 @@ public class InMemoryOrderRepository implements OrderRepository {
         return order;
     }
 
+    @Override
+    public List<Order> insertAll(final List<Order> orders) {
+        orders.forEach(this::save);
+        return orders;
+    }
+
     @Override
     public Optional<Order> findById(final UUID id) {
         return Optional.ofNullable(orders.get(id));
     }
 
+    @Override
+    public Optional<Order> findByIdempotencyKey(final String idempotencyKey) {
+        return orders.values()
+            .stream()
+            .filter(order -> Objects.equals(order.getIdempotencyKey(), idempotencyKey))
+            .findAny();
+    }
+
     @Override
     public List<Order> findAll() {
         return new ArrayList<>(orders.values());
     }
 
     @Override
-    public boolean existsByOrderTableAndStatusNot(final OrderTable orderTable, final OrderStatus status) {
+    public List<Order> findAllByCondition(final OrderSearchCondition condition, final int limit) {
         return orders.values()
             .stream()
-            .anyMatch(order -> order.getOrderTable().equals(orderTable) && order.getStatus() != status);
+            .filter(order -> condition.getStatus() == null || order.getStatus() == condition.getStatus())
+            .filter(order -> condition.getType() == null || order.getType() == condition.getType())
+            .filter(order -> condition.getFrom() == null || !order.getOrderDateTime().isBefore(condition.getFrom()))
+            .filter(order -> condition.getTo() == null || order.getOrderDateTime().isBefore(condition.getTo()))
+            .filter(order -> !condition.hasCursor() || isBeforeCursor(order, condition))
+            .sorted(LATEST_FIRST)
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private boolean isBeforeCursor(final Order order, final OrderSearchCondition condition) {
+        final int compared = order.getOrderDateTime().compareTo(condition.getCursorDateTime());
+        return compared < 0 || (compared == 0 && BINARY_ORDER.compare(order.getId(), condition.getCursorId()) < 0);
+    }
+
+    @Override
+    public boolean existsById(final UUID id) {
+        return orders.containsKey(id);
+    }
+
+    @Override
+    public List<OrderCount> countAllByStatusInGroupByStatusAndType(final Collection<OrderStatus> statuses) {
+        final List<OrderCount> counts = new ArrayList<>();
+        orders.values()
+            .stream()
+            .filter(order -> statuses.contains(order.getStatus()))
+            .collect(Collectors.groupingBy(
+                Order::getStatus,
+                Collectors.groupingBy(Order::getType, Collectors.counting())
+            ))
+            .forEach((status, types) -> types.forEach(
+                (type, count) -> counts.add(new OrderCount(status, type, count))
+            ));
+        return counts;
+    }
+
+    @Override
+    public int updateStatus(
+        final UUID id,
+        final Collection<OrderType> types,
+        final OrderStatus from,
+        final OrderStatus to,
+        final LocalDateTime changedAt
+    ) {
+        final Order order = orders.get(id);
+        if (Objects.isNull(order) || !types.contains(order.getType()) || order.getStatus() != from) {
+            return 0;
+        }
+        order.setStatus(to);
+        order.setStatusDateTime(to, changedAt);
+        return 1;
+    }
+
+    @Override
+    public Optional<OrderStageStart> findStageStart(final UUID id, final OrderStatus stage) {
+        return Optional.ofNullable(orders.get(id))
+            .map(order -> new OrderStageStart(order.getType(), order.getStatusDateTime(stage)));
     }
 }
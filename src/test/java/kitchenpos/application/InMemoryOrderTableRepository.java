@@ -4,6 +4,7 @@ import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class InMemoryOrderTableRepository implements OrderTableRepository {
     private final Map<UUID, OrderTable> orderTables = new HashMap<>();
@@ -23,4 +24,33 @@ public class InMemoryOrderTableRepository implements OrderTableRepository {
     public List<OrderTable> findAll() {
         return new ArrayList<>(orderTables.values());
     }
+
+    @Override
+    public List<OrderTable> findAllByIdIn(final List<UUID> ids) {
+        return orderTables.values()
+            .stream()
+            .filter(orderTable -> ids.contains(orderTable.getId()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public int addOpenOrderCount(final UUID id, final int delta) {
+        final OrderTable orderTable = orderTables.get(id);
+        if (Objects.isNull(orderTable)) {
+            return 0;
+        }
+        orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() + delta);
+        return 1;
+    }
+
+    @Override
+    public int clearIfNoOpenOrders(final UUID id) {
+        final OrderTable orderTable = orderTables.get(id);
+        if (Objects.isNull(orderTable) || orderTable.getOpenOrderCount() != 0) {
+            return 0;
+        }
+        orderTable.setNumberOfGuests(0);
+        orderTable.setOccupied(false);
+        return 1;
+    }
 }
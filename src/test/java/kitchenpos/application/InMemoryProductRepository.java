@@ -20,6 +20,11 @@ public class InMemoryProductRepository implements ProductRepository {
         return Optional.ofNullable(products.get(id));
     }
 
+    @Override
+    public Optional<Product> findWithLockById(final UUID id) {
+        return Optional.ofNullable(products.get(id));
+    }
+
     @Override
     public List<Product> findAll() {
         return new ArrayList<>(products.values());
@@ -32,4 +37,14 @@ public class InMemoryProductRepository implements ProductRepository {
             .filter(product -> ids.contains(product.getId()))
             .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Product> findAllWithLockByIdIn(final List<UUID> ids) {
+        return findAllByIdIn(ids);
+    }
+
+    @Override
+    public List<Product> findAllWithShareLockByIdIn(final List<UUID> ids) {
+        return findAllByIdIn(ids);
+    }
 }
@@ -0,0 +1,74 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MenuCatalogTest {
+    private InMemoryMenuRepository menuRepository;
+    private MenuCatalog menuCatalog;
+    private int findAllCount;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = new InMemoryMenuRepository() {
+            @Override
+            public List<Menu> findAll() {
+                findAllCount++;
+                return super.findAll();
+            }
+        };
+        menuCatalog = new MenuCatalog(menuRepository);
+    }
+
+    @DisplayName("메뉴 목록은 처음 한 번만 조회하고 이후에는 스냅샷을 사용한다.")
+    @Test
+    void getMenus() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        menuCatalog.getMenus();
+        final Map<UUID, CatalogMenu> actual = menuCatalog.getMenus();
+        assertAll(
+            () -> assertThat(actual).containsKey(menuId),
+            () -> assertThat(findAllCount).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("메뉴가 변경되면 새 버전의 스냅샷을 만들고 이전 스냅샷은 바꾸지 않는다.")
+    @Test
+    void onMenuChanged() {
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct()));
+        final Map<UUID, CatalogMenu> previous = menuCatalog.getMenus();
+        final long previousVersion = menuCatalog.getVersion();
+        menu.setDisplayed(false);
+        menu.setPrice(BigDecimal.valueOf(18_000L));
+        menuCatalog.onMenuChanged(new MenuChangedEvent(menu));
+        final CatalogMenu actual = menuCatalog.getMenus().get(menu.getId());
+        assertAll(
+            () -> assertThat(actual.isDisplayed()).isFalse(),
+            () -> assertThat(actual.getPrice()).isEqualTo(BigDecimal.valueOf(18_000L)),
+            () -> assertThat(previous.get(menu.getId()).isDisplayed()).isTrue(),
+            () -> assertThat(menuCatalog.getVersion()).isEqualTo(previousVersion + 1),
+            () -> assertThat(findAllCount).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("스냅샷을 다시 읽으면 새로 등록된 메뉴가 반영된다.")
+    @Test
+    void refresh() {
+        menuCatalog.getMenus();
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        menuCatalog.refresh();
+        assertThat(menuCatalog.getMenus()).containsKey(menuId);
+    }
+}
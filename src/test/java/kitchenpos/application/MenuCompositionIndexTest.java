@@ -0,0 +1,122 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuComposition;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kitchenpos.Fixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MenuCompositionIndexTest {
+    private InMemoryMenuRepository menuRepository;
+    private MenuCompositionIndex menuCompositionIndex;
+
+    private final AtomicInteger findAllCompositionsCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = new InMemoryMenuRepository() {
+            @Override
+            public List<MenuComposition> findAllCompositions() {
+                findAllCompositionsCount.incrementAndGet();
+                return super.findAllCompositions();
+            }
+        };
+        menuCompositionIndex = new MenuCompositionIndex(menuRepository);
+    }
+
+    @DisplayName("상품이 속한 메뉴와 메뉴의 구성을 찾을 수 있다.")
+    @Test
+    void findCompositions() {
+        final Product product = product("후라이드", 16_000L);
+        final Product side = product("감자튀김", 4_000L);
+        final Menu menu = menuRepository.save(menu(19_000L, menuProduct(product, 2L), menuProduct(side, 1L)));
+        menuRepository.save(menu(4_000L, menuProduct(side, 1L)));
+        final Map<UUID, Map<UUID, Long>> actual = menuCompositionIndex.findCompositions(
+            Collections.singleton(product.getId())
+        );
+        assertAll(
+            () -> assertThat(actual).containsOnlyKeys(menu.getId()),
+            () -> assertThat(actual.get(menu.getId())).containsEntry(product.getId(), 2L),
+            () -> assertThat(actual.get(menu.getId())).containsEntry(side.getId(), 1L)
+        );
+    }
+
+    @DisplayName("메뉴가 등록되면 색인을 다시 만든다.")
+    @Test
+    void rebuildWhenMenuCreated() {
+        final Product product = product("후라이드", 16_000L);
+        menuRepository.save(menu(19_000L, menuProduct(product, 2L)));
+        menuCompositionIndex.findCompositions(Collections.singleton(product.getId()));
+        final Menu menu = menuRepository.save(menu(19_000L, menuProduct(product, 2L)));
+        menuCompositionIndex.onMenuCreating(new MenuCreatedEvent(menu));
+        menuCompositionIndex.onMenuCreated(new MenuCreatedEvent(menu));
+        final Map<UUID, Map<UUID, Long>> actual = menuCompositionIndex.findCompositions(
+            Collections.singleton(product.getId())
+        );
+        assertAll(
+            () -> assertThat(actual).containsKey(menu.getId()),
+            () -> assertThat(findAllCompositionsCount.get()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("등록 중인 메뉴가 커밋되기 전에는 색인을 다시 쓰지 않는다.")
+    @Test
+    void rebuildWhileMenuCreating() {
+        final Product product = product("후라이드", 16_000L);
+        final Menu menu = menuRepository.save(menu(19_000L, menuProduct(product, 2L)));
+        menuCompositionIndex.onMenuCreating(new MenuCreatedEvent(menu));
+        menuCompositionIndex.findCompositions(Collections.singleton(product.getId()));
+        menuCompositionIndex.findCompositions(Collections.singleton(product.getId()));
+        assertThat(findAllCompositionsCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("메뉴가 등록되지 않으면 색인을 다시 사용한다.")
+    @Test
+    void reuse() {
+        final Product product = product("후라이드", 16_000L);
+        menuRepository.save(menu(19_000L, menuProduct(product, 2L)));
+        menuCompositionIndex.findCompositions(Collections.singleton(product.getId()));
+        menuCompositionIndex.findCompositions(Collections.singleton(product.getId()));
+        assertThat(findAllCompositionsCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 스레드가 동시에 색인을 찾아도 색인은 한 번만 만든다.")
+    @Test
+    void rebuildOnce() throws InterruptedException {
+        final Product product = product("후라이드", 16_000L);
+        menuRepository.save(menu(19_000L, menuProduct(product, 2L)));
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            executorService.execute(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                menuCompositionIndex.findCompositions(Collections.singleton(product.getId()));
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertAll(
+            () -> assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue(),
+            () -> assertThat(findAllCompositionsCount.get()).isEqualTo(1)
+        );
+    }
+}
@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.domain.*;
 import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.*;
@@ -22,7 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 class MenuServiceTest {
     private MenuRepository menuRepository;
     private MenuGroupRepository menuGroupRepository;
-    private ProductRepository productRepository;
+    private InMemoryProductRepository productRepository;
     private PurgomalumClient purgomalumClient;
     private MenuService menuService;
     private UUID menuGroupId;
@@ -34,7 +36,10 @@ class MenuServiceTest {
         menuGroupRepository = new InMemoryMenuGroupRepository();
         productRepository = new InMemoryProductRepository();
         purgomalumClient = new FakePurgomalumClient();
-        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, purgomalumClient);
+        menuService = new MenuService(
+            menuRepository, menuGroupRepository, productRepository, purgomalumClient, new TimeOrderedIdGenerator(), event -> {
+            }, TransactionOperations.withoutTransaction()
+        );
         menuGroupId = menuGroupRepository.save(menuGroup()).getId();
         product = productRepository.save(product("후라이드", 16_000L));
     }
@@ -53,7 +58,8 @@ class MenuServiceTest {
             () -> assertThat(actual.getPrice()).isEqualTo(expected.getPrice()),
             () -> assertThat(actual.getMenuGroup().getId()).isEqualTo(expected.getMenuGroupId()),
             () -> assertThat(actual.isDisplayed()).isEqualTo(expected.isDisplayed()),
-            () -> assertThat(actual.getMenuProducts()).hasSize(1)
+            () -> assertThat(actual.getMenuProducts()).hasSize(1),
+            () -> assertThat(actual.getProductPriceSum()).isEqualByComparingTo(BigDecimal.valueOf(32_000L))
         );
     }
 
@@ -185,9 +191,24 @@ class MenuServiceTest {
     @DisplayName("메뉴의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        final List<MenuResponse> actual = menuService.findAll();
+        assertAll(
+            () -> assertThat(actual).hasSize(1),
+            () -> assertThat(actual.get(0).getMenuGroupId()).isEqualTo(menu.getMenuGroup().getId()),
+            () -> assertThat(actual.get(0).getMenuProducts()).extracting(MenuProductResponse::getProductId)
+                .containsExactly(product.getId())
+        );
+    }
+
+    @DisplayName("상품 가격의 합보다 비싼 메뉴의 목록을 조회할 수 있다.")
+    @Test
+    void findAllOverpriced() {
+        final Menu overpriced = menuRepository.save(menu(33_000L, false, menuProduct(product, 2L)));
         menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
-        final List<Menu> actual = menuService.findAll();
-        assertThat(actual).hasSize(1);
+        final List<MenuResponse> actual = menuService.findAllOverpriced();
+        assertThat(actual).extracting(MenuResponse::getId)
+            .containsExactly(overpriced.getId());
     }
 
     private Menu createMenuRequest(
@@ -0,0 +1,93 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.order;
+import static kitchenpos.Fixtures.orderTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderMetricsTest {
+    private InMemoryOrderRepository orderRepository;
+    private MeterRegistry meterRegistry;
+    private OrderMetrics orderMetrics;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        orderMetrics = new OrderMetrics(orderRepository, meterRegistry);
+    }
+
+    @DisplayName("완료되지 않은 주문 수를 상태와 유형별 게이지로 노출한다.")
+    @Test
+    void refresh() {
+        orderRepository.save(order(OrderStatus.WAITING));
+        orderRepository.save(order(OrderStatus.WAITING));
+        orderRepository.save(order(OrderStatus.DELIVERING, "서울시 송파구 위례성대로 2"));
+        orderRepository.save(order(OrderStatus.COMPLETED, orderTable(true, 4)));
+        orderMetrics.refresh();
+        assertAll(
+            () -> assertThat(gauge(OrderStatus.WAITING, OrderType.TAKEOUT)).isEqualTo(2.0),
+            () -> assertThat(gauge(OrderStatus.DELIVERING, OrderType.DELIVERY)).isEqualTo(1.0),
+            () -> assertThat(gauge(OrderStatus.SERVED, OrderType.EAT_IN)).isZero(),
+            () -> assertThat(meterRegistry.find("kitchenpos.orders").tag("status", "COMPLETED").gauge()).isNull()
+        );
+    }
+
+    @DisplayName("인스턴스가 시작된 뒤 완료된 주문 수는 주문 상태 변경 이벤트로 센다.")
+    @Test
+    void onOrderStatusChanged() {
+        orderMetrics.onOrderStatusChanged(event(OrderType.EAT_IN, OrderStatus.SERVED, OrderStatus.COMPLETED));
+        orderMetrics.onOrderStatusChanged(event(OrderType.DELIVERY, OrderStatus.DELIVERING, OrderStatus.DELIVERED));
+        assertAll(
+            () -> assertThat(meterRegistry.get("kitchenpos.orders.completed").tag("type", "EAT_IN").counter().count())
+                .isEqualTo(1.0),
+            () -> assertThat(orderMetrics.getCompletedSinceStart(OrderType.EAT_IN)).isEqualTo(1L),
+            () -> assertThat(orderMetrics.getCompletedSinceStart(OrderType.DELIVERY)).isZero()
+        );
+    }
+
+    @DisplayName("완료된 주문은 상태별 주문 수로 조회할 수 없다.")
+    @Test
+    void getCountOfCompleted() {
+        assertThatThrownBy(() -> orderMetrics.getCount(OrderStatus.COMPLETED, OrderType.EAT_IN))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("더 이상 없는 상태의 주문 수는 0으로 갱신한다.")
+    @Test
+    void refreshToZero() {
+        orderRepository.save(order(OrderStatus.WAITING));
+        orderMetrics.refresh();
+        orderRepository.findAll().forEach(order -> order.setStatus(OrderStatus.ACCEPTED));
+        orderMetrics.refresh();
+        assertAll(
+            () -> assertThat(orderMetrics.getCount(OrderStatus.WAITING, OrderType.TAKEOUT)).isZero(),
+            () -> assertThat(orderMetrics.getCount(OrderStatus.ACCEPTED, OrderType.TAKEOUT)).isEqualTo(1L)
+        );
+    }
+
+    private OrderStatusChangedEvent event(final OrderType type, final OrderStatus from, final OrderStatus to) {
+        final LocalDateTime now = LocalDateTime.now();
+        return new OrderStatusChangedEvent(UUID.randomUUID(), type, from, to, now, now);
+    }
+
+    private double gauge(final OrderStatus status, final OrderType type) {
+        return meterRegistry.get("kitchenpos.orders")
+            .tag("status", status.name())
+            .tag("type", type.name())
+            .gauge()
+            .value();
+    }
+}
@@ -1,6 +1,7 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.*;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,7 @@ import org.junit.jupiter.params.provider.*;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static kitchenpos.Fixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,9 +20,10 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class OrderServiceTest {
     private OrderRepository orderRepository;
-    private MenuRepository menuRepository;
+    private InMemoryMenuRepository menuRepository;
     private OrderTableRepository orderTableRepository;
-    private FakeKitchenridersClient kitchenridersClient;
+    private InMemoryDeliveryOutboxRepository deliveryOutboxRepository;
+    private List<Object> events;
     private OrderService orderService;
 
     @BeforeEach
@@ -28,8 +31,16 @@ class OrderServiceTest {
         orderRepository = new InMemoryOrderRepository();
         menuRepository = new InMemoryMenuRepository();
         orderTableRepository = new InMemoryOrderTableRepository();
-        kitchenridersClient = new FakeKitchenridersClient();
-        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, kitchenridersClient);
+        deliveryOutboxRepository = new InMemoryDeliveryOutboxRepository();
+        events = new ArrayList<>();
+        orderService = new OrderService(
+            orderRepository,
+            new MenuCatalog(menuRepository),
+            orderTableRepository,
+            deliveryOutboxRepository,
+            new TimeOrderedIdGenerator(),
+            events::add
+        );
     }
 
     @DisplayName("1개 이상의 등록된 메뉴로 배달 주문을 등록할 수 있다.")
@@ -85,6 +96,32 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("등록한 주문의 응답은 주문 항목의 메뉴를 식별자로 담는다.")
+    @Test
+    void createResponse() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        final Order expected = createOrderRequest(OrderType.EAT_IN, orderTableId, createOrderLineItemRequest(menuId, 19_000L, 3L));
+        final OrderResponse actual = OrderResponse.from(orderService.create(expected));
+        assertAll(
+            () -> assertThat(actual.getOrderTableId()).isEqualTo(orderTableId),
+            () -> assertThat(actual.getOrderLineItems()).extracting(OrderLineItemResponse::getMenuId)
+                .containsExactly(menuId),
+            () -> assertThat(actual.getOrderLineItems()).extracting(OrderLineItemResponse::getQuantity)
+                .containsExactly(3L)
+        );
+    }
+
+    @DisplayName("매장 주문을 등록하면 주문 테이블의 완료되지 않은 주문 수가 늘어난다.")
+    @Test
+    void createEatInOrderOpensOrder() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        orderService.create(createOrderRequest(OrderType.EAT_IN, orderTableId, createOrderLineItemRequest(menuId, 19_000L, 3L)));
+        orderService.create(createOrderRequest(OrderType.EAT_IN, orderTableId, createOrderLineItemRequest(menuId, 19_000L, 1L)));
+        assertThat(orderTableRepository.findById(orderTableId).get().getOpenOrderCount()).isEqualTo(2);
+    }
+
     @DisplayName("주문 유형이 올바르지 않으면 등록할 수 없다.")
     @NullSource
     @ParameterizedTest
@@ -178,6 +215,62 @@ class OrderServiceTest {
             .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @DisplayName("여러 주문을 한 번에 등록할 수 있다.")
+    @Test
+    void createAll() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final List<Order> requests = Arrays.asList(
+            createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(menuId, 19_000L, 3L)),
+            createOrderRequest(OrderType.DELIVERY, "서울시 송파구 위례성대로 2", createOrderLineItemRequest(menuId, 19_000L, 1L))
+        );
+        final List<OrderBatchResult> actual = orderService.createAll(requests);
+        assertAll(
+            () -> assertThat(actual).hasSize(2),
+            () -> assertThat(actual).allMatch(OrderBatchResult::isCreated),
+            () -> assertThat(orderRepository.findAll()).hasSize(2)
+        );
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록할 때 올바르지 않은 주문만 등록되지 않는다.")
+    @Test
+    void createAllWithInvalidOrder() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID hiddenMenuId = menuRepository.save(menu(19_000L, false, menuProduct())).getId();
+        final List<Order> requests = Arrays.asList(
+            createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(menuId, 19_000L, 3L)),
+            createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(hiddenMenuId, 19_000L, 3L)),
+            createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(menuId, 16_000L, 3L))
+        );
+        final List<OrderBatchResult> actual = orderService.createAll(requests);
+        assertAll(
+            () -> assertThat(actual.get(0).isCreated()).isTrue(),
+            () -> assertThat(actual.get(1).getError()).isEqualTo(IllegalStateException.class.getSimpleName()),
+            () -> assertThat(actual.get(2).getError()).isEqualTo(IllegalArgumentException.class.getSimpleName()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록할 때 비어 있는 주문과 주문 테이블이 없는 매장 주문은 거부한다.")
+    @Test
+    void createAllWithMissingValues() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        final List<Order> requests = Arrays.asList(
+            createOrderRequest(OrderType.EAT_IN, orderTableId, createOrderLineItemRequest(menuId, 19_000L, 3L)),
+            null,
+            createOrderRequest(OrderType.EAT_IN, (UUID) null, createOrderLineItemRequest(menuId, 19_000L, 3L)),
+            createOrderRequest(OrderType.EAT_IN, UUID.randomUUID(), createOrderLineItemRequest(menuId, 19_000L, 3L))
+        );
+        final List<OrderBatchResult> actual = orderService.createAll(requests);
+        assertAll(
+            () -> assertThat(actual.get(0).isCreated()).isTrue(),
+            () -> assertThat(actual.get(1).getError()).isEqualTo(IllegalArgumentException.class.getSimpleName()),
+            () -> assertThat(actual.get(2).getError()).isEqualTo(IllegalArgumentException.class.getSimpleName()),
+            () -> assertThat(actual.get(3).getError()).isEqualTo(NoSuchElementException.class.getSimpleName()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
     @DisplayName("주문을 접수한다.")
     @Test
     void accept() {
@@ -186,6 +279,22 @@ class OrderServiceTest {
         assertThat(actual.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
     }
 
+    @DisplayName("주문의 상태가 바뀌면 바뀐 시각과 이전 상태에 머문 시간을 기록한다.")
+    @Test
+    void acceptRecordsStatusDateTime() {
+        final Order order = orderRepository.save(order(OrderStatus.WAITING, orderTable(true, 4)));
+        final Order actual = orderService.accept(order.getId());
+        final OrderStatusChangedEvent event = (OrderStatusChangedEvent) events.get(0);
+        assertAll(
+            () -> assertThat(actual.getAcceptedDateTime()).isNotNull(),
+            () -> assertThat(event.getFrom()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(event.getTo()).isEqualTo(OrderStatus.ACCEPTED),
+            () -> assertThat(event.getType()).isEqualTo(OrderType.EAT_IN),
+            () -> assertThat(event.getStartedAt()).isEqualTo(order.getOrderDateTime()),
+            () -> assertThat(event.getChangedAt()).isEqualTo(actual.getAcceptedDateTime())
+        );
+    }
+
     @DisplayName("접수 대기 중인 주문만 접수할 수 있다.")
     @EnumSource(value = OrderStatus.class, names = "WAITING", mode = EnumSource.Mode.EXCLUDE)
     @ParameterizedTest
@@ -195,15 +304,16 @@ class OrderServiceTest {
             .isInstanceOf(IllegalStateException.class);
     }
 
-    @DisplayName("배달 주문을 접수되면 배달 대행사를 호출한다.")
+    @DisplayName("배달 주문을 접수되면 배달 대행사 호출을 아웃박스에 기록한다.")
     @Test
     void acceptDeliveryOrder() {
         final UUID orderId = orderRepository.save(order(OrderStatus.WAITING, "서울시 송파구 위례성대로 2")).getId();
         final Order actual = orderService.accept(orderId);
         assertAll(
             () -> assertThat(actual.getStatus()).isEqualTo(OrderStatus.ACCEPTED),
-            () -> assertThat(kitchenridersClient.getOrderId()).isEqualTo(orderId),
-            () -> assertThat(kitchenridersClient.getDeliveryAddress()).isEqualTo("서울시 송파구 위례성대로 2")
+            () -> assertThat(deliveryOutboxRepository.findAll()).hasSize(1),
+            () -> assertThat(deliveryOutboxRepository.findAll().get(0).getOrderId()).isEqualTo(orderId),
+            () -> assertThat(deliveryOutboxRepository.findAll().get(0).getDeliveryAddress()).isEqualTo("서울시 송파구 위례성대로 2")
         );
     }
 
@@ -296,6 +406,7 @@ class OrderServiceTest {
     @Test
     void completeEatInOrder() {
         final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        orderTable.setOpenOrderCount(1);
         final Order expected = orderRepository.save(order(OrderStatus.SERVED, orderTable));
         final Order actual = orderService.complete(expected.getId());
         assertAll(
@@ -309,6 +420,7 @@ class OrderServiceTest {
     @Test
     void completeNotTable() {
         final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        orderTable.setOpenOrderCount(2);
         orderRepository.save(order(OrderStatus.ACCEPTED, orderTable));
         final Order expected = orderRepository.save(order(OrderStatus.SERVED, orderTable));
         final Order actual = orderService.complete(expected.getId());
@@ -319,6 +431,73 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("주문의 상태를 조건부로 한 번에 변경할 수 있다.")
+    @Test
+    void transit() {
+        final UUID orderId = orderRepository.save(order(OrderStatus.ACCEPTED)).getId();
+        final boolean actual = orderService.transit(orderId, OrderTransition.SERVE);
+        assertAll(
+            () -> assertThat(actual).isTrue(),
+            () -> assertThat(orderRepository.findById(orderId).get().getStatus()).isEqualTo(OrderStatus.SERVED)
+        );
+    }
+
+    @DisplayName("주문의 상태를 조건부로 변경해도 바뀐 시각과 이전 상태에 머문 시간을 기록한다.")
+    @Test
+    void transitRecordsStatusDateTime() {
+        final Order order = order(OrderStatus.ACCEPTED);
+        order.setAcceptedDateTime(order.getOrderDateTime().plusMinutes(3));
+        final UUID orderId = orderRepository.save(order).getId();
+        orderService.transit(orderId, OrderTransition.SERVE);
+        final OrderStatusChangedEvent event = (OrderStatusChangedEvent) events.get(0);
+        assertAll(
+            () -> assertThat(orderRepository.findById(orderId).get().getServedDateTime()).isEqualTo(event.getChangedAt()),
+            () -> assertThat(event.getFrom()).isEqualTo(OrderStatus.ACCEPTED),
+            () -> assertThat(event.getType()).isEqualTo(OrderType.TAKEOUT),
+            () -> assertThat(event.getStartedAt()).isEqualTo(order.getAcceptedDateTime())
+        );
+    }
+
+    @DisplayName("이미 접수된 주문은 다시 접수할 수 없다.")
+    @Test
+    void transitTwice() {
+        final UUID orderId = orderRepository.save(order(OrderStatus.WAITING, "서울시 송파구 위례성대로 2")).getId();
+        final boolean first = orderService.transit(orderId, OrderTransition.ACCEPT);
+        final boolean second = orderService.transit(orderId, OrderTransition.ACCEPT);
+        assertAll(
+            () -> assertThat(first).isTrue(),
+            () -> assertThat(second).isFalse(),
+            () -> assertThat(deliveryOutboxRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("배달 주문만 조건부로 배달을 시작할 수 있다.")
+    @Test
+    void transitStartDeliveryWithoutDeliveryOrder() {
+        final UUID orderId = orderRepository.save(order(OrderStatus.SERVED)).getId();
+        assertThat(orderService.transit(orderId, OrderTransition.START_DELIVERY)).isFalse();
+    }
+
+    @DisplayName("주문을 조건부로 완료하면 주문 테이블의 모든 매장 주문이 완료되었을 때 빈 테이블로 설정한다.")
+    @Test
+    void transitCompleteEatInOrder() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        orderTable.setOpenOrderCount(1);
+        final UUID orderId = orderRepository.save(order(OrderStatus.SERVED, orderTable)).getId();
+        final boolean actual = orderService.transit(orderId, OrderTransition.COMPLETE);
+        assertAll(
+            () -> assertThat(actual).isTrue(),
+            () -> assertThat(orderTableRepository.findById(orderTable.getId()).get().isOccupied()).isFalse()
+        );
+    }
+
+    @DisplayName("존재하지 않는 주문의 상태는 변경할 수 없다.")
+    @Test
+    void transitNotFound() {
+        assertThatThrownBy(() -> orderService.transit(INVALID_ID, OrderTransition.SERVE))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
     @DisplayName("주문의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
@@ -329,6 +508,64 @@ class OrderServiceTest {
         assertThat(actual).hasSize(2);
     }
 
+    @DisplayName("주문의 목록을 커서 기반으로 나누어 조회할 수 있다.")
+    @Test
+    void findAllByCursor() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(order(OrderStatus.WAITING));
+        }
+        final OrderPage first = orderService.findAll(null, null, null, null, null, 3);
+        final OrderPage second = orderService.findAll(null, null, null, null, first.getNextCursor(), 3);
+        assertAll(
+            () -> assertThat(first.getOrders()).hasSize(3),
+            () -> assertThat(first.getNextCursor()).isNotNull(),
+            () -> assertThat(second.getOrders()).hasSize(2),
+            () -> assertThat(second.getNextCursor()).isNull(),
+            () -> assertThat(second.getOrders()).extracting(OrderResponse::getId)
+                .doesNotContainAnyElementsOf(
+                    first.getOrders()
+                        .stream()
+                        .map(OrderResponse::getId)
+                        .collect(Collectors.toList())
+                )
+        );
+    }
+
+    @DisplayName("주문 일시가 같은 주문은 식별자를 부호 없는 바이트 순서로 비교해 나눈다.")
+    @Test
+    void findAllByCursorWithUnsignedId() {
+        final Order low = order(OrderStatus.WAITING);
+        low.setId(UUID.fromString("7fffffff-ffff-ffff-ffff-ffffffffffff"));
+        final Order high = order(OrderStatus.WAITING);
+        high.setId(UUID.fromString("80000000-0000-0000-0000-000000000000"));
+        orderRepository.save(low);
+        orderRepository.save(high);
+        final OrderPage first = orderService.findAll(null, null, null, null, null, 1);
+        final OrderPage second = orderService.findAll(null, null, null, null, first.getNextCursor(), 1);
+        assertAll(
+            () -> assertThat(first.getOrders()).extracting(OrderResponse::getId).containsExactly(high.getId()),
+            () -> assertThat(second.getOrders()).extracting(OrderResponse::getId).containsExactly(low.getId())
+        );
+    }
+
+    @DisplayName("주문의 목록을 상태와 유형으로 걸러 조회할 수 있다.")
+    @Test
+    void findAllByCondition() {
+        orderRepository.save(order(OrderStatus.WAITING));
+        orderRepository.save(order(OrderStatus.SERVED));
+        orderRepository.save(order(OrderStatus.WAITING, "서울시 송파구 위례성대로 2"));
+        final OrderPage actual = orderService.findAll(OrderStatus.WAITING, OrderType.TAKEOUT, null, null, null, 20);
+        assertThat(actual.getOrders()).hasSize(1);
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 주문의 수는 1 이상 100 이하여야 한다.")
+    @ValueSource(ints = {0, 101})
+    @ParameterizedTest
+    void findAllWithInvalidSize(final int size) {
+        assertThatThrownBy(() -> orderService.findAll(null, null, null, null, null, size))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private Order createOrderRequest(
         final OrderType type,
         final String deliveryAddress,
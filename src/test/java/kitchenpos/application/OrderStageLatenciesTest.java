@@ -0,0 +1,94 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderStageLatenciesTest {
+    private static final LocalDateTime ORDER_DATE_TIME = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    private MeterRegistry meterRegistry;
+    private OrderStageLatencies orderStageLatencies;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderStageLatencies = new OrderStageLatencies(meterRegistry, 2);
+    }
+
+    @DisplayName("주문 유형별로 각 상태에 머문 시간의 분포를 기록한다.")
+    @Test
+    void onOrderStatusChanged() {
+        for (int minutes = 1; minutes <= 10; minutes++) {
+            orderStageLatencies.onOrderStatusChanged(accepted(OrderType.DELIVERY, minutes));
+        }
+        orderStageLatencies.onOrderStatusChanged(accepted(OrderType.TAKEOUT, 30));
+        orderStageLatencies.rotate();
+        final OrderStageLatency actual = latency(OrderStatus.WAITING, OrderType.DELIVERY);
+        assertAll(
+            () -> assertThat(actual.getCount()).isEqualTo(10L),
+            () -> assertThat(actual.getP50Millis()).isBetween(295_000L, 305_000L),
+            () -> assertThat(actual.getMaxMillis()).isBetween(595_000L, 605_000L),
+            () -> assertThat(latency(OrderStatus.WAITING, OrderType.TAKEOUT).getCount()).isEqualTo(1L),
+            () -> assertThat(gauge("kitchenpos.order.stage.count", OrderType.DELIVERY)).isEqualTo(10.0)
+        );
+    }
+
+    @DisplayName("오래된 구간의 기록은 창에서 밀려난다.")
+    @Test
+    void rotate() {
+        orderStageLatencies.onOrderStatusChanged(accepted(OrderType.DELIVERY, 1));
+        orderStageLatencies.rotate();
+        orderStageLatencies.rotate();
+        assertThat(latency(OrderStatus.WAITING, OrderType.DELIVERY).getCount()).isEqualTo(1L);
+        orderStageLatencies.rotate();
+        assertThat(latency(OrderStatus.WAITING, OrderType.DELIVERY).getCount()).isZero();
+    }
+
+    @DisplayName("상태에 들어온 시각을 모르면 기록하지 않는다.")
+    @Test
+    void withoutStartedAt() {
+        orderStageLatencies.onOrderStatusChanged(new OrderStatusChangedEvent(
+            UUID.randomUUID(), OrderType.DELIVERY, OrderStatus.WAITING, OrderStatus.ACCEPTED, null, ORDER_DATE_TIME
+        ));
+        orderStageLatencies.rotate();
+        assertThat(latency(OrderStatus.WAITING, OrderType.DELIVERY).getCount()).isZero();
+    }
+
+    private OrderStatusChangedEvent accepted(final OrderType type, final long minutes) {
+        return new OrderStatusChangedEvent(
+            UUID.randomUUID(),
+            type,
+            OrderStatus.WAITING,
+            OrderStatus.ACCEPTED,
+            ORDER_DATE_TIME,
+            ORDER_DATE_TIME.plusMinutes(minutes)
+        );
+    }
+
+    private OrderStageLatency latency(final OrderStatus stage, final OrderType type) {
+        return orderStageLatencies.getLatencies()
+            .stream()
+            .filter(latency -> latency.getStage() == stage && latency.getType() == type)
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+    }
+
+    private double gauge(final String name, final OrderType type) {
+        return meterRegistry.get(name)
+            .tag("stage", OrderStatus.WAITING.name())
+            .tag("type", type.name())
+            .gauge()
+            .value();
+    }
+}
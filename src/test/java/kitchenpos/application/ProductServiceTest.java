@@ -3,18 +3,18 @@ package kitchenpos.application;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Product;
-import kitchenpos.domain.ProductRepository;
 import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.TimeOrderedIdGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 import static kitchenpos.Fixtures.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -22,7 +22,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class ProductServiceTest {
-    private ProductRepository productRepository;
+    private InMemoryProductRepository productRepository;
     private MenuRepository menuRepository;
     private PurgomalumClient purgomalumClient;
     private ProductService productService;
@@ -32,7 +32,16 @@ class ProductServiceTest {
         productRepository = new InMemoryProductRepository();
         menuRepository = new InMemoryMenuRepository();
         purgomalumClient = new FakePurgomalumClient();
-        productService = new ProductService(productRepository, menuRepository, purgomalumClient);
+        productService = new ProductService(
+            productRepository,
+            menuRepository,
+            new MenuCompositionIndex(menuRepository),
+            purgomalumClient,
+            new TimeOrderedIdGenerator(),
+            event -> {
+            },
+            TransactionOperations.withoutTransaction()
+        );
     }
 
     @DisplayName("상품을 등록할 수 있다.")
@@ -97,6 +106,64 @@ class ProductServiceTest {
         assertThat(menuRepository.findById(menu.getId()).get().isDisplayed()).isFalse();
     }
 
+    @DisplayName("상품의 가격이 변경되면 메뉴의 상품 금액의 합을 가격 차이만큼 갱신한다.")
+    @Test
+    void changePriceInMenusByDelta() {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Menu hiddenMenu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        final Menu[] displayedMenus = new Menu[20];
+        for (int i = 0; i < displayedMenus.length; i++) {
+            final Product side = productRepository.save(product("감자튀김", 4_000L));
+            displayedMenus[i] = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L), menuProduct(side, 1L)));
+        }
+        productService.changePrice(product.getId(), changePriceRequest(8_000L));
+        assertAll(
+            () -> assertThat(menuRepository.findById(hiddenMenu.getId()).get().isDisplayed()).isFalse(),
+            () -> assertThat(displayedMenus).allMatch(Menu::isDisplayed),
+            () -> assertThat(displayedMenus[0].getProductPriceSum()).isEqualByComparingTo(BigDecimal.valueOf(20_000L))
+        );
+    }
+
+    @DisplayName("여러 상품의 가격을 한 번에 변경하면 영향을 받는 메뉴의 상품 금액의 합을 한 번에 다시 계산한다.")
+    @Test
+    void changePrices() {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Product side = productRepository.save(product("감자튀김", 4_000L));
+        final Menu hiddenMenu = menuRepository.save(menu(19_000L, true, menuProduct(product, 1L), menuProduct(side, 1L)));
+        final Menu displayedMenu = menuRepository.save(menu(30_000L, true, menuProduct(product, 2L)));
+        final List<Product> actual = productService.changePrices(Arrays.asList(
+            changePriceRequest(product.getId(), 15_000L),
+            changePriceRequest(side.getId(), 3_000L)
+        ));
+        assertAll(
+            () -> assertThat(actual).hasSize(2),
+            () -> assertThat(menuRepository.findById(hiddenMenu.getId()).get().isDisplayed()).isFalse(),
+            () -> assertThat(menuRepository.findById(hiddenMenu.getId()).get().getProductPriceSum())
+                .isEqualByComparingTo(BigDecimal.valueOf(18_000L)),
+            () -> assertThat(menuRepository.findById(displayedMenu.getId()).get().isDisplayed()).isTrue()
+        );
+    }
+
+    @DisplayName("같은 상품의 가격을 한 번에 여러 번 변경할 수 없다.")
+    @Test
+    void changePricesWithDuplicatedProduct() {
+        final UUID productId = productRepository.save(product("후라이드", 16_000L)).getId();
+        final List<Product> expected = Arrays.asList(
+            changePriceRequest(productId, 15_000L),
+            changePriceRequest(productId, 14_000L)
+        );
+        assertThatThrownBy(() -> productService.changePrices(expected))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("등록되지 않은 상품의 가격은 변경할 수 없다.")
+    @Test
+    void changePricesWithNotRegisteredProduct() {
+        final List<Product> expected = Collections.singletonList(changePriceRequest(INVALID_ID, 15_000L));
+        assertThatThrownBy(() -> productService.changePrices(expected))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
     @DisplayName("상품의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
@@ -121,6 +188,12 @@ class ProductServiceTest {
         return changePriceRequest(BigDecimal.valueOf(price));
     }
 
+    private Product changePriceRequest(final UUID productId, final long price) {
+        final Product product = changePriceRequest(price);
+        product.setId(productId);
+        return product;
+    }
+
     private Product changePriceRequest(final BigDecimal price) {
         final Product product = new Product();
         product.setPrice(price);
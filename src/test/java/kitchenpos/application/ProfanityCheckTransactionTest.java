@@ -0,0 +1,107 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+import kitchenpos.infra.PurgomalumClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "kitchenpos.purgomalum.mode=none")
+class ProfanityCheckTransactionTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private RecordingPurgomalumClient purgomalumClient;
+
+    @BeforeEach
+    void setUp() {
+        purgomalumClient.clear();
+    }
+
+    @DisplayName("상품을 등록할 때 비속어 검사 중에는 트랜잭션과 커넥션을 잡고 있지 않는다.")
+    @Test
+    void createProduct() {
+        productService.create(product("후라이드", 16_000L));
+        assertThat(purgomalumClient.getHeldResources()).containsExactly(false);
+    }
+
+    @DisplayName("메뉴를 등록할 때 비속어 검사 중에는 트랜잭션과 커넥션을 잡고 있지 않는다.")
+    @Test
+    void createMenu() {
+        final Product product = productService.create(product("후라이드", 16_000L));
+        final MenuGroup menuGroupRequest = new MenuGroup();
+        menuGroupRequest.setName("두마리메뉴");
+        final MenuGroup menuGroup = menuGroupService.create(menuGroupRequest);
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(2L);
+        final Menu menu = new Menu();
+        menu.setName("후라이드+후라이드");
+        menu.setPrice(BigDecimal.valueOf(19_000L));
+        menu.setMenuGroupId(menuGroup.getId());
+        menu.setDisplayed(true);
+        menu.setMenuProducts(Collections.singletonList(menuProduct));
+        menuService.create(menu);
+        assertThat(purgomalumClient.getHeldResources()).containsExactly(false, false);
+    }
+
+    private static Product product(final String name, final long price) {
+        final Product product = new Product();
+        product.setName(name);
+        product.setPrice(BigDecimal.valueOf(price));
+        return product;
+    }
+
+    @TestConfiguration
+    static class PurgomalumClientConfiguration {
+        @Primary
+        @Bean
+        RecordingPurgomalumClient recordingPurgomalumClient() {
+            return new RecordingPurgomalumClient();
+        }
+    }
+
+    static class RecordingPurgomalumClient implements PurgomalumClient {
+        private final List<Boolean> heldResources = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public boolean containsProfanity(final String text) {
+            heldResources.add(
+                TransactionSynchronizationManager.isActualTransactionActive()
+                    || !TransactionSynchronizationManager.getResourceMap().isEmpty()
+            );
+            return false;
+        }
+
+        List<Boolean> getHeldResources() {
+            return heldResources;
+        }
+
+        void clear() {
+            heldResources.clear();
+        }
+    }
+}
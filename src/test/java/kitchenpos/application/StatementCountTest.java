@@ -0,0 +1,220 @@
+package kitchenpos.application;
+
+import kitchenpos.MaxStatements;
+import kitchenpos.StatementCountExtension;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.Product;
+import kitchenpos.infra.PurgomalumClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(StatementCountExtension.class)
+@SpringBootTest(properties = "kitchenpos.purgomalum.mode=none")
+class StatementCountTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    private final List<Product> products = new ArrayList<>();
+    private final List<Menu> menus = new ArrayList<>();
+    private MenuGroup menuGroup;
+    private Menu menu;
+    private OrderTable orderTable;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            final Product productRequest = new Product();
+            productRequest.setName("후라이드");
+            productRequest.setPrice(BigDecimal.valueOf(16_000L));
+            products.add(productService.create(productRequest));
+        }
+        final MenuGroup menuGroupRequest = new MenuGroup();
+        menuGroupRequest.setName("두마리메뉴");
+        menuGroup = menuGroupService.create(menuGroupRequest);
+        for (int i = 0; i < 20; i++) {
+            menus.add(menuService.create(menuRequest(products.subList(0, 1))));
+        }
+        menu = menus.get(0);
+        menuCatalog.getMenus();
+        final OrderTable orderTableRequest = new OrderTable();
+        orderTableRequest.setName("1번");
+        orderTable = orderTableService.sit(orderTableService.create(orderTableRequest).getId());
+    }
+
+    // 메뉴 그룹 조회, 상품 조회, merge 확인 조회, 메뉴 저장에 메뉴 상품마다 저장과 외래 키 갱신이 더해진다.
+    @DisplayName("상품이 하나인 메뉴 등록은 상품을 한 번만 조회한다.")
+    @MaxStatements(4 + 2)
+    @Test
+    void createMenuWithOneProduct() {
+        assertThat(menuService.create(menuRequest(products.subList(0, 1))).getMenuProducts()).hasSize(1);
+    }
+
+    @DisplayName("상품이 여러 개인 메뉴 등록도 상품을 한 번만 조회한다.")
+    @MaxStatements(4 + 2 * 20)
+    @Test
+    void createMenuWithManyProducts() {
+        assertThat(menuService.create(menuRequest(products)).getMenuProducts()).hasSize(20);
+    }
+
+    @DisplayName("메뉴 목록은 메뉴 상품까지 한 번의 조회로 가져온다.")
+    @MaxStatements(1)
+    @Test
+    void findAllMenus() {
+        assertThat(menuService.findAll()).isNotEmpty();
+    }
+
+    @DisplayName("상품 목록은 한 번의 조회로 가져온다.")
+    @MaxStatements(1)
+    @Test
+    void findAllProducts() {
+        assertThat(productService.findAll()).isNotEmpty();
+    }
+
+    @DisplayName("메뉴 가격 변경은 조회와 수정 한 번씩이다.")
+    @MaxStatements(2)
+    @Test
+    void changeMenuPrice() {
+        final Menu request = new Menu();
+        request.setPrice(BigDecimal.valueOf(18_000L));
+        assertThat(menuService.changePrice(menu.getId(), request).getPrice()).isEqualTo(BigDecimal.valueOf(18_000L));
+    }
+
+    @DisplayName("메뉴 숨김은 조회와 수정 한 번씩이다.")
+    @MaxStatements(2)
+    @Test
+    void hideMenu() {
+        assertThat(menuService.hide(menu.getId()).isDisplayed()).isFalse();
+    }
+
+    @DisplayName("주문 항목의 수와 관계없이 주문 등록은 주문과 주문 항목을 한 번씩 저장한다.")
+    @MaxStatements(2)
+    @ValueSource(ints = {1, 20})
+    @ParameterizedTest
+    void createOrder(final int size) {
+        assertThat(orderService.create(orderRequest(OrderType.TAKEOUT, size)).getOrderLineItems()).hasSize(size);
+    }
+
+    @DisplayName("매장 주문 등록은 주문 항목의 수와 관계없이 주문 테이블 조회와 갱신이 한 번씩 더해진다.")
+    @MaxStatements(4)
+    @Test
+    void createEatInOrder() {
+        final Order request = orderRequest(OrderType.EAT_IN, 20);
+        request.setOrderTableId(orderTable.getId());
+        assertThat(orderService.create(request).getOrderLineItems()).hasSize(20);
+    }
+
+    @DisplayName("여러 매장 주문의 일괄 등록은 주문 테이블을 한 번에 조회한다.")
+    @MaxStatements(4)
+    @Test
+    void createAllEatInOrders() {
+        final List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final Order request = orderRequest(OrderType.EAT_IN, 1);
+            request.setOrderTableId(orderTable.getId());
+            requests.add(request);
+        }
+        assertThat(orderService.createAll(requests)).allMatch(OrderBatchResult::isCreated);
+    }
+
+    // 상품 잠금, 메뉴 구성, 상품 수정, 상품 금액의 합 갱신, 비싸진 메뉴와 메뉴 그룹 조회, 메뉴 숨김
+    @DisplayName("상품 가격 변경은 상품이 속한 메뉴의 수와 관계없이 일정한 수의 문장으로 메뉴에 반영된다.")
+    @MaxStatements(7)
+    @Test
+    void changeProductPrice() {
+        final Product request = new Product();
+        request.setPrice(BigDecimal.valueOf(9_000L));
+        assertThat(productService.changePrice(products.get(0).getId(), request).getPrice())
+            .isEqualTo(BigDecimal.valueOf(9_000L));
+    }
+
+    @DisplayName("여러 상품의 가격 변경은 상품과 메뉴의 수와 관계없이 일정한 수의 문장으로 메뉴에 반영된다.")
+    @MaxStatements(7)
+    @Test
+    void changeProductPrices() {
+        final List<Product> requests = new ArrayList<>();
+        for (final Product product : products) {
+            final Product request = new Product();
+            request.setId(product.getId());
+            request.setPrice(BigDecimal.valueOf(9_000L));
+            requests.add(request);
+        }
+        assertThat(productService.changePrices(requests)).hasSize(20);
+    }
+
+    private Order orderRequest(final OrderType type, final int size) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menus.get(i).getId());
+            orderLineItem.setPrice(BigDecimal.valueOf(19_000L));
+            orderLineItem.setQuantity(1L);
+            orderLineItems.add(orderLineItem);
+        }
+        final Order request = new Order();
+        request.setType(type);
+        request.setOrderLineItems(orderLineItems);
+        return request;
+    }
+
+    private Menu menuRequest(final List<Product> menuProductSources) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final Product product : menuProductSources) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(product.getId());
+            menuProduct.setQuantity(2L);
+            menuProducts.add(menuProduct);
+        }
+        final Menu menuRequest = new Menu();
+        menuRequest.setName("후라이드+후라이드");
+        menuRequest.setPrice(BigDecimal.valueOf(19_000L));
+        menuRequest.setMenuGroupId(menuGroup.getId());
+        menuRequest.setDisplayed(true);
+        menuRequest.setMenuProducts(menuProducts);
+        return menuRequest;
+    }
+
+    @TestConfiguration
+    static class PurgomalumClientConfiguration {
+        @Primary
+        @Bean
+        PurgomalumClient fakePurgomalumClient() {
+            return new FakePurgomalumClient();
+        }
+    }
+}
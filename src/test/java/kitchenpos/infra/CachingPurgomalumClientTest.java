@@ -0,0 +1,110 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CachingPurgomalumClientTest {
+    private final AtomicInteger remoteCount = new AtomicInteger();
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @DisplayName("같은 이름은 TTL 동안 원격 호출 없이 캐시에서 확인한다.")
+    @Test
+    void containsProfanity() {
+        final PurgomalumClient client = client(text -> {
+            remoteCount.incrementAndGet();
+            return text.contains("비속어");
+        }, 100);
+        client.containsProfanity("후라이드");
+        final boolean actual = client.containsProfanity("후라이드");
+        assertAll(
+            () -> assertThat(actual).isFalse(),
+            () -> assertThat(remoteCount.get()).isEqualTo(1),
+            () -> assertThat(meterRegistry.get("kitchenpos.purgomalum.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(1.0),
+            () -> assertThat(meterRegistry.get("kitchenpos.purgomalum.remote").timer().count()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("TTL이 지나면 원격으로 다시 확인한다.")
+    @Test
+    void expire() {
+        final PurgomalumClient client = client(text -> {
+            remoteCount.incrementAndGet();
+            return false;
+        }, 100);
+        client.containsProfanity("후라이드");
+        now.addAndGet(Duration.ofHours(2).toMillis());
+        client.containsProfanity("후라이드");
+        assertThat(remoteCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("캐시는 최대 크기를 넘지 않는다.")
+    @Test
+    void evict() {
+        final CachingPurgomalumClient client = client(text -> false, 2);
+        client.containsProfanity("후라이드");
+        client.containsProfanity("양념치킨");
+        client.containsProfanity("반반치킨");
+        assertThat(client.size()).isEqualTo(2);
+    }
+
+    @DisplayName("같은 이름에 대한 동시 요청은 하나의 원격 호출을 공유한다.")
+    @Test
+    void coalesce() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CachingPurgomalumClient client = client(text -> {
+            remoteCount.incrementAndGet();
+            started.countDown();
+            await(release);
+            return true;
+        }, 100);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final Future<Boolean> first = executorService.submit(() -> client.containsProfanity("비속어"));
+            started.await();
+            final Future<Boolean> second = executorService.submit(() -> client.containsProfanity("비속어"));
+            final Future<Boolean> third = executorService.submit(() -> client.containsProfanity("비속어"));
+            while (meterRegistry.get("kitchenpos.purgomalum.lookups").tag("result", "coalesced").counter().count() < 2) {
+                Thread.sleep(1L);
+            }
+            release.countDown();
+            assertAll(
+                () -> assertThat(first.get()).isTrue(),
+                () -> assertThat(second.get()).isTrue(),
+                () -> assertThat(third.get()).isTrue(),
+                () -> assertThat(remoteCount.get()).isEqualTo(1)
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private CachingPurgomalumClient client(final PurgomalumClient delegate, final int maxEntries) {
+        return new CachingPurgomalumClient(delegate, meterRegistry, maxEntries, Duration.ofHours(1), now::get);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
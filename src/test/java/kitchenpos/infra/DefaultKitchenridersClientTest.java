@@ -0,0 +1,48 @@
+package kitchenpos.infra;
+
+import kitchenpos.tools.StandInServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultKitchenridersClientTest {
+    private StandInServer server;
+
+    @BeforeEach
+    void setUp() {
+        server = new StandInServer(0, StandInServer.defaultWords()).start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @DisplayName("설정한 주소로 배달을 요청한다.")
+    @Test
+    void requestDelivery() {
+        final KitchenridersClient client = new DefaultKitchenridersClient(
+            new RestTemplateBuilder(), server.getUrl(), Duration.ofSeconds(1), Duration.ofSeconds(1)
+        );
+        client.requestDelivery(UUID.randomUUID(), BigDecimal.valueOf(19_000L), "서울시 송파구 위례성대로 2");
+        assertThat(server.getRequests(StandInServer.KITCHENRIDERS_PATH)).isEqualTo(1L);
+    }
+
+    @DisplayName("주소가 없으면 배달을 요청하지 않는다.")
+    @Test
+    void requestDeliveryWithoutUrl() {
+        final KitchenridersClient client = new DefaultKitchenridersClient(
+            new RestTemplateBuilder(), "", Duration.ofSeconds(1), Duration.ofSeconds(1)
+        );
+        client.requestDelivery(UUID.randomUUID(), BigDecimal.valueOf(19_000L), "서울시 송파구 위례성대로 2");
+        assertThat(server.getRequests(StandInServer.KITCHENRIDERS_PATH)).isZero();
+    }
+}
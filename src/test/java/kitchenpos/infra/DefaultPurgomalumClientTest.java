@@ -0,0 +1,66 @@
+package kitchenpos.infra;
+
+import kitchenpos.tools.LatencyDistribution;
+import kitchenpos.tools.StandInBehavior;
+import kitchenpos.tools.StandInServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DefaultPurgomalumClientTest {
+    private StandInServer server;
+    private PurgomalumClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = new StandInServer(0, StandInServer.defaultWords()).start();
+        client = new DefaultPurgomalumClient(
+            new RestTemplateBuilder(), server.getUrl(), Duration.ofSeconds(1), Duration.ofMillis(200)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @DisplayName("설정한 주소로 비속어 여부를 조회한다.")
+    @Test
+    void containsProfanity() {
+        assertAll(
+            () -> assertThat(client.containsProfanity("bull shit burger")).isTrue(),
+            () -> assertThat(client.containsProfanity("후라이드")).isFalse(),
+            () -> assertThat(server.getRequests(StandInServer.PURGOMALUM_PATH)).isEqualTo(2L)
+        );
+    }
+
+    @DisplayName("응답이 읽기 제한 시간을 넘으면 예외가 발생한다.")
+    @Test
+    void readTimeout() {
+        server.setPurgomalumBehavior(
+            new StandInBehavior(LatencyDistribution.none(), 0.0, 1.0, Duration.ofSeconds(1))
+        );
+        assertThatThrownBy(() -> client.containsProfanity("후라이드"))
+            .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @DisplayName("오류 응답을 받으면 예외가 발생한다.")
+    @Test
+    void serverError() {
+        server.setPurgomalumBehavior(
+            new StandInBehavior(LatencyDistribution.fixed(10L), 1.0, 0.0, Duration.ofSeconds(1))
+        );
+        assertThatThrownBy(() -> client.containsProfanity("후라이드"))
+            .isInstanceOf(HttpServerErrorException.class);
+    }
+}
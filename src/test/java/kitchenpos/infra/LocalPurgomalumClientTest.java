@@ -0,0 +1,68 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class LocalPurgomalumClientTest {
+    private final AtomicInteger fallbackCount = new AtomicInteger();
+    private final PurgomalumClient fallback = text -> {
+        fallbackCount.incrementAndGet();
+        return true;
+    };
+
+    @DisplayName("대소문자와 단어 사이의 구분자에 관계없이 비속어를 찾는다.")
+    @ValueSource(strings = {"shit", "Holy SHIT", "bull  shit burger", "Shit-burger"})
+    @ParameterizedTest
+    void containsProfanity(final String text) {
+        final PurgomalumClient client = new LocalPurgomalumClient(
+            new DefaultResourceLoader(), "classpath:profanity/words.txt", fallback
+        );
+        assertAll(
+            () -> assertThat(client.containsProfanity(text)).isTrue(),
+            () -> assertThat(fallbackCount.get()).isZero()
+        );
+    }
+
+    @DisplayName("비속어가 없으면 false를 반환한다.")
+    @ValueSource(strings = {"후라이드", "양념치킨", "Fried Chicken", "Fish Italiano", "Scunthorpe", "Prickly Pear", "s h i t"})
+    @ParameterizedTest
+    void notContainsProfanity(final String text) {
+        final PurgomalumClient client = new LocalPurgomalumClient(
+            new DefaultResourceLoader(), "classpath:profanity/words.txt", fallback
+        );
+        assertThat(client.containsProfanity(text)).isFalse();
+    }
+
+    @DisplayName("단어 목록을 읽을 수 없으면 원격 클라이언트로 확인한다.")
+    @Test
+    void fallback() {
+        final PurgomalumClient client = new LocalPurgomalumClient(
+            new DefaultResourceLoader(), "classpath:profanity/missing.txt", fallback
+        );
+        assertAll(
+            () -> assertThat(client.containsProfanity("후라이드")).isTrue(),
+            () -> assertThat(fallbackCount.get()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("단어 경계에서 시작하고 끝나는 비속어만 찾는다.")
+    @Test
+    void matchesWholeWords() {
+        final ProfanityMatcher matcher = ProfanityMatcher.of(Arrays.asList("he", "she", "his", "hers"));
+        assertAll(
+            () -> assertThat(matcher.matches("ushers")).isFalse(),
+            () -> assertThat(matcher.matches("u hers")).isTrue(),
+            () -> assertThat(matcher.matches("shes, she")).isTrue(),
+            () -> assertThat(matcher.matches(new String(new char[100_000]).replace('\0', 'x') + " his")).isTrue()
+        );
+    }
+}
@@ -0,0 +1,62 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kitchenpos.application.InMemoryMenuGroupRepository;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.domain.MenuGroup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ServiceMetricsAspectTest {
+    private MeterRegistry meterRegistry;
+    private MenuGroupService menuGroupService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+            new MenuGroupService(new InMemoryMenuGroupRepository(), new TimeOrderedIdGenerator())
+        );
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        menuGroupService = proxyFactory.getProxy();
+    }
+
+    @DisplayName("서비스 호출 시간을 결과와 함께 기록한다.")
+    @Test
+    void success() {
+        final MenuGroup request = new MenuGroup();
+        request.setName("두마리메뉴");
+        menuGroupService.create(request);
+        menuGroupService.findAll();
+        assertAll(
+            () -> assertThat(count("create", "success", "none")).isEqualTo(1L),
+            () -> assertThat(count("findAll", "success", "none")).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("예외가 발생하면 예외 유형을 함께 기록한다.")
+    @Test
+    void failure() {
+        assertThatThrownBy(() -> menuGroupService.create(new MenuGroup()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(count("create", "failure", "IllegalArgumentException")).isEqualTo(1L);
+    }
+
+    private long count(final String method, final String outcome, final String exception) {
+        return meterRegistry.get("kitchenpos.service")
+            .tag("class", "MenuGroupService")
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .tag("exception", exception)
+            .timer()
+            .count();
+    }
+}
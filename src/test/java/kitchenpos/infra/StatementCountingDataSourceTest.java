@@ -0,0 +1,91 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class StatementCountingDataSourceTest {
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        final DriverManagerDataSource target = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""
+        );
+        dataSource = new StatementCountingDataSource(target);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table product (name varchar(255))");
+    }
+
+    @DisplayName("실행한 문장의 수와 시간을 센다.")
+    @Test
+    void count() {
+        final StatementStatistics statistics = StatementStatistics.start();
+        jdbcTemplate.update("insert into product (name) values (?)", "후라이드");
+        jdbcTemplate.queryForList("select name from product", String.class);
+        jdbcTemplate.execute("delete from product");
+        assertAll(
+            () -> assertThat(statistics.getCount()).isEqualTo(3L),
+            () -> assertThat(statistics.getElapsed()).isPositive()
+        );
+    }
+
+    @DisplayName("배치는 한 번의 실행으로 센다.")
+    @Test
+    void batch() {
+        final StatementStatistics statistics = StatementStatistics.start();
+        jdbcTemplate.batchUpdate(
+            "insert into product (name) values (?)",
+            Arrays.asList(new Object[]{"후라이드"}, new Object[]{"양념치킨"})
+        );
+        assertThat(statistics.getCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("겹친 구간은 각자 시작한 뒤의 문장만 센다.")
+    @Test
+    void nested() {
+        final StatementStatistics outer = StatementStatistics.start();
+        jdbcTemplate.queryForList("select name from product", String.class);
+        final StatementStatistics inner = StatementStatistics.start();
+        jdbcTemplate.queryForList("select name from product", String.class);
+        assertAll(
+            () -> assertThat(outer.getCount()).isEqualTo(2L),
+            () -> assertThat(inner.getCount()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("실패한 문장도 세고 원래 예외를 그대로 던진다.")
+    @Test
+    void failure() {
+        final StatementStatistics statistics = StatementStatistics.start();
+        assertThatThrownBy(() -> jdbcTemplate.execute("select * from missing"))
+            .hasRootCauseInstanceOf(SQLException.class);
+        assertThat(statistics.getCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("감싼 커넥션에서 원래 커넥션을 꺼낼 수 있다.")
+    @Test
+    void targetConnection() throws SQLException {
+        try (final Connection connection = dataSource.getConnection()) {
+            final Connection target = DataSourceUtils.getTargetConnection(connection);
+            assertAll(
+                () -> assertThat(target).isNotSameAs(connection),
+                () -> assertThat(connection.createStatement().getConnection()).isSameAs(connection)
+            );
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TimeOrderedIdGeneratorTest {
+    @DisplayName("UUID 버전 7 형식의 식별자를 생성한다.")
+    @Test
+    void generate() {
+        final UUID actual = new TimeOrderedIdGenerator(() -> 1_600_000_000_000L).generate();
+        assertAll(
+            () -> assertThat(actual.version()).isEqualTo(7),
+            () -> assertThat(actual.variant()).isEqualTo(2),
+            () -> assertThat(actual.getMostSignificantBits() >>> 16).isEqualTo(1_600_000_000_000L)
+        );
+    }
+
+    @DisplayName("같은 밀리초에 생성한 식별자도 바이트 순서로 증가한다.")
+    @Test
+    void generateMonotonic() {
+        final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(() -> 1_600_000_000_000L);
+        UUID previous = idGenerator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            final UUID current = idGenerator.generate();
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()))
+                .isPositive();
+            previous = current;
+        }
+    }
+
+    @DisplayName("여러 스레드에서 생성한 식별자는 중복되지 않는다.")
+    @Test
+    void generateConcurrently() throws Exception {
+        final TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> {
+                final List<UUID> ids = new ArrayList<>();
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(idGenerator.generate());
+                }
+                return ids;
+            }));
+        }
+        final Set<UUID> actual = new HashSet<>();
+        for (final Future<List<UUID>> future : futures) {
+            actual.addAll(future.get());
+        }
+        executor.shutdown();
+        assertThat(actual).hasSize(40_000);
+    }
+}
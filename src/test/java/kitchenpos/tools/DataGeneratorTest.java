@@ -0,0 +1,53 @@
+package kitchenpos.tools;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DataGeneratorTest {
+    private static final String URL = "jdbc:h2:mem:data-generator;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @DisplayName("마이그레이션한 스키마에 외래 키를 지키며 여러 번에 나누어 적재한다.")
+    @Test
+    void load() throws SQLException {
+        Flyway.configure()
+            .dataSource(URL, "sa", "")
+            .load()
+            .migrate();
+        final DataGenerator generator = new DataGenerator(Arguments.parse(new String[]{
+            "--products=50", "--menu-groups=3", "--menus=200", "--order-tables=10", "--orders=500", "--days=2",
+            "--end=2022-01-01", "--rows-per-statement=10", "--statements-per-commit=2"
+        }));
+        try (final Connection connection = DriverManager.getConnection(URL, "sa", "")) {
+            connection.setAutoCommit(false);
+            generator.truncate(connection);
+            generator.load(connection);
+            assertAll(
+                () -> assertThat(count(connection, "product")).isEqualTo(50L),
+                () -> assertThat(count(connection, "menu")).isEqualTo(200L),
+                () -> assertThat(count(connection, "menu_product")).isGreaterThanOrEqualTo(200L),
+                () -> assertThat(count(connection, "orders")).isEqualTo(500L),
+                () -> assertThat(count(connection, "order_line_item")).isGreaterThanOrEqualTo(500L)
+            );
+        }
+    }
+
+    private long count(final Connection connection, final String table) throws SQLException {
+        try (
+            final Statement statement = connection.createStatement();
+            final ResultSet resultSet = statement.executeQuery("select count(*) from " + table)
+        ) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package kitchenpos.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.*;
+import kitchenpos.domain.Menu;
+import kitchenpos.infra.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MenuBoardCacheTest {
+    private InMemoryMenuRepository menuRepository;
+    private MenuCatalog menuCatalog;
+    private int findAllCount;
+    private MenuBoardCache menuBoardCache;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = new InMemoryMenuRepository() {
+            @Override
+            public List<Menu> findAll() {
+                findAllCount++;
+                return super.findAll();
+            }
+        };
+        menuCatalog = new MenuCatalog(menuRepository);
+        final MenuService menuService = new MenuService(
+            menuRepository,
+            new InMemoryMenuGroupRepository(),
+            new InMemoryProductRepository(),
+            new FakePurgomalumClient(),
+            new TimeOrderedIdGenerator(),
+            event -> menuCatalog.onMenuChanged((MenuChangedEvent) event),
+            TransactionOperations.withoutTransaction()
+        );
+        menuBoardCache = new MenuBoardCache(menuService, menuCatalog, new ObjectMapper());
+    }
+
+    @DisplayName("메뉴가 바뀌지 않으면 직렬화한 메뉴판을 다시 사용한다.")
+    @Test
+    void get() {
+        menuRepository.save(menu(19_000L, true, menuProduct()));
+        final MenuBoard first = menuBoardCache.get();
+        final int count = findAllCount;
+        final MenuBoard second = menuBoardCache.get();
+        assertAll(
+            () -> assertThat(second).isSameAs(first),
+            () -> assertThat(findAllCount).isEqualTo(count),
+            () -> assertThat(second.matches(first.getETag())).isTrue()
+        );
+    }
+
+    @DisplayName("메뉴가 바뀌면 새로운 ETag로 메뉴판을 다시 만든다.")
+    @Test
+    void getAfterMenuChanged() {
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct()));
+        final MenuBoard first = menuBoardCache.get();
+        menu.setDisplayed(false);
+        menuCatalog.onMenuChanged(new MenuChangedEvent(menu));
+        final MenuBoard second = menuBoardCache.get();
+        assertAll(
+            () -> assertThat(second.getVersion()).isGreaterThan(first.getVersion()),
+            () -> assertThat(second.matches(first.getETag())).isFalse(),
+            () -> assertThat(second.getGzippedBody()).isNotEmpty()
+        );
+    }
+
+    @DisplayName("If-None-Match의 약한 ETag와 여러 ETag 목록을 비교할 수 있다.")
+    @Test
+    void matches() {
+        final MenuBoard menuBoard = new MenuBoard(1L, "\"abc\"", new byte[0], new byte[0]);
+        assertAll(
+            () -> assertThat(menuBoard.matches("W/\"abc\"")).isTrue(),
+            () -> assertThat(menuBoard.matches("\"xyz\", \"abc\"")).isTrue(),
+            () -> assertThat(menuBoard.matches("\"xyz\"")).isFalse(),
+            () -> assertThat(menuBoard.matches(null)).isFalse()
+        );
+    }
+
+    @DisplayName("Accept-Encoding의 q 값이 0보다 큰 gzip 또는 *이 있을 때만 압축한 메뉴판을 보낸다.")
+    @Test
+    void acceptsGzip() {
+        assertAll(
+            () -> assertThat(MenuBoard.acceptsGzip("gzip, deflate, br")).isTrue(),
+            () -> assertThat(MenuBoard.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue(),
+            () -> assertThat(MenuBoard.acceptsGzip("*")).isTrue(),
+            () -> assertThat(MenuBoard.acceptsGzip("gzip;q=0")).isFalse(),
+            () -> assertThat(MenuBoard.acceptsGzip("*, gzip;q=0")).isFalse(),
+            () -> assertThat(MenuBoard.acceptsGzip("identity")).isFalse(),
+            () -> assertThat(MenuBoard.acceptsGzip(null)).isFalse()
+        );
+    }
+}
@@ -0,0 +1,50 @@
+package kitchenpos.tools;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class Arguments {
+    private static final String PREFIX = "--";
+
+    private final Map<String, String> values;
+
+    private Arguments(final Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static Arguments parse(final String[] args) {
+        final Map<String, String> values = new HashMap<>();
+        for (final String arg : args) {
+            if (!arg.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(arg);
+            }
+            final int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(PREFIX.length()), "true");
+            } else {
+                values.put(arg.substring(PREFIX.length(), separator), arg.substring(separator + 1));
+            }
+        }
+        return new Arguments(values);
+    }
+
+    public String getString(final String name, final String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(final String name, final int defaultValue) {
+        return values.containsKey(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    public long getLong(final String name, final long defaultValue) {
+        return values.containsKey(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    public double getDouble(final String name, final double defaultValue) {
+        return values.containsKey(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    public boolean getBoolean(final String name, final boolean defaultValue) {
+        return values.containsKey(name) ? Boolean.parseBoolean(values.get(name)) : defaultValue;
+    }
+}
@@ -0,0 +1,126 @@
+package kitchenpos.tools;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class BulkInserter implements AutoCloseable {
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final int statementsPerCommit;
+    private final PreparedStatement statement;
+    private final List<Object[]> rows;
+    private BulkInserter parent;
+    private int statements;
+    private long count;
+
+    public BulkInserter(
+        final Connection connection,
+        final String table,
+        final String[] columns,
+        final int rowsPerStatement,
+        final int statementsPerCommit
+    ) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = rowsPerStatement;
+        this.statementsPerCommit = statementsPerCommit;
+        this.statement = connection.prepareStatement(sql(rowsPerStatement));
+        this.rows = new ArrayList<>(rowsPerStatement);
+    }
+
+    public BulkInserter after(final BulkInserter parent) {
+        this.parent = parent;
+        return this;
+    }
+
+    public void add(final Object... values) throws SQLException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException();
+        }
+        rows.add(values);
+        count++;
+        if (rows.size() == rowsPerStatement) {
+            bind(statement);
+            statement.addBatch();
+            if (++statements == statementsPerCommit) {
+                flushParent();
+                statement.executeBatch();
+                connection.commit();
+                statements = 0;
+            }
+        }
+    }
+
+    public void flush() throws SQLException {
+        flushParent();
+        if (statements > 0) {
+            statement.executeBatch();
+            statements = 0;
+        }
+        if (!rows.isEmpty()) {
+            try (final PreparedStatement remainder = connection.prepareStatement(sql(rows.size()))) {
+                bind(remainder);
+                remainder.executeUpdate();
+            }
+        }
+        connection.commit();
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        flush();
+        statement.close();
+    }
+
+    private void flushParent() throws SQLException {
+        if (parent != null) {
+            parent.flush();
+        }
+    }
+
+    private void bind(final PreparedStatement target) throws SQLException {
+        int index = 1;
+        for (final Object[] row : rows) {
+            for (final Object value : row) {
+                target.setObject(index++, value instanceof UUID ? toBytes((UUID) value) : value);
+            }
+        }
+        rows.clear();
+    }
+
+    private String sql(final int rowCount) {
+        final StringBuilder sql = new StringBuilder("insert into ")
+            .append(table)
+            .append(" (")
+            .append(String.join(", ", columns))
+            .append(") values ");
+        final String placeholders = "(" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+
+    static byte[] toBytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
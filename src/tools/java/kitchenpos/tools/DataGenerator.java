@@ -0,0 +1,384 @@
+package kitchenpos.tools;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public class DataGenerator {
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final double[] HOURLY_WEIGHTS = {
+        0.2, 0.1, 0.05, 0.05, 0.05, 0.1, 0.3, 0.6, 0.8, 1.0, 1.5, 4.0,
+        5.0, 3.0, 1.5, 1.2, 1.8, 3.5, 5.0, 4.5, 3.0, 2.0, 1.0, 0.5
+    };
+    private static final String[] PRODUCT_NAMES = {
+        "후라이드", "양념치킨", "간장치킨", "반반치킨", "순살치킨", "치즈볼", "감자튀김", "콜라", "사이다", "치킨무"
+    };
+    private static final String[] MENU_GROUP_NAMES = {
+        "한마리메뉴", "두마리메뉴", "순살파닭두마리메뉴", "사이드메뉴", "음료"
+    };
+
+    private final SplittableRandom random;
+    private final int products;
+    private final int menuGroups;
+    private final int menus;
+    private final int maxMenuProducts;
+    private final int orderTables;
+    private final int orders;
+    private final double meanOrderLineItems;
+    private final int days;
+    private final LocalDateTime end;
+    private final int rowsPerStatement;
+    private final int statementsPerCommit;
+    private final double zipfExponent;
+
+    private UUID[] productIds;
+    private long[] productPrices;
+    private UUID[] menuGroupIds;
+    private UUID[] menuIds;
+    private UUID[] orderTableIds;
+    private int[] openOrderCounts;
+    private ZipfDistribution productPopularity;
+    private ZipfDistribution menuPopularity;
+    private double[] cumulativeHourlyWeights;
+
+    public DataGenerator(final Arguments arguments) {
+        this.random = new SplittableRandom(arguments.getLong("seed", 42L));
+        this.products = arguments.getInt("products", 1_000);
+        this.menuGroups = arguments.getInt("menu-groups", 20);
+        this.menus = arguments.getInt("menus", 5_000);
+        this.maxMenuProducts = arguments.getInt("max-menu-products", 5);
+        this.orderTables = arguments.getInt("order-tables", 200);
+        this.orders = arguments.getInt("orders", 1_000_000);
+        this.meanOrderLineItems = arguments.getDouble("mean-order-line-items", 3.0);
+        this.days = arguments.getInt("days", 365);
+        this.end = LocalDate.parse(arguments.getString("end", LocalDate.now().toString())).atStartOfDay();
+        this.rowsPerStatement = arguments.getInt("rows-per-statement", 1_000);
+        this.statementsPerCommit = arguments.getInt("statements-per-commit", 10);
+        this.zipfExponent = arguments.getDouble("zipf-exponent", 1.1);
+        if (products < 1 || menuGroups < 1 || menus < 1 || orderTables < 1 || maxMenuProducts < 1 || days < 1) {
+            throw new IllegalArgumentException();
+        }
+        if (meanOrderLineItems < 1.0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static void main(final String[] args) throws SQLException {
+        final Arguments arguments = Arguments.parse(args);
+        final String url = arguments.getString("url", "jdbc:mysql://localhost:33306/kitchenpos?rewriteBatchedStatements=true");
+        final DataGenerator generator = new DataGenerator(arguments);
+        try (final Connection connection = DriverManager.getConnection(
+            url,
+            arguments.getString("user", "user"),
+            arguments.getString("password", "password")
+        )) {
+            connection.setAutoCommit(false);
+            final boolean mysql = url.startsWith("jdbc:mysql:");
+            if (mysql) {
+                execute(connection, "set foreign_key_checks = 0, unique_checks = 0");
+            }
+            try {
+                if (arguments.getBoolean("truncate", false)) {
+                    generator.truncate(connection);
+                }
+                generator.load(connection);
+            } finally {
+                if (mysql) {
+                    execute(connection, "set foreign_key_checks = 1, unique_checks = 1");
+                }
+            }
+        }
+    }
+
+    public void load(final Connection connection) throws SQLException {
+        System.out.printf("seed data ending at %s%n", end.toLocalDate());
+        loadProducts(connection);
+        loadMenuGroups(connection);
+        loadMenus(connection);
+        loadOrderTables(connection);
+        loadOrders(connection);
+        updateOrderTables(connection);
+    }
+
+    public void truncate(final Connection connection) throws SQLException {
+        for (final String table : Arrays.asList(
+            "order_line_item", "delivery_outbox", "orders", "order_table", "menu_product", "menu", "menu_group", "product"
+        )) {
+            execute(connection, "delete from " + table);
+        }
+        connection.commit();
+    }
+
+    private void loadProducts(final Connection connection) throws SQLException {
+        final long startedAt = System.nanoTime();
+        productIds = new UUID[products];
+        productPrices = new long[products];
+        try (final BulkInserter inserter = inserter(connection, "product", "id", "name", "price")) {
+            for (int i = 0; i < products; i++) {
+                productIds[i] = nextId(end);
+                productPrices[i] = Math.max(500L, Math.round(Math.exp(9.4 + 0.6 * gaussian()) / 100.0) * 100L);
+                inserter.add(
+                    productIds[i],
+                    PRODUCT_NAMES[i % PRODUCT_NAMES.length] + " " + (i / PRODUCT_NAMES.length + 1),
+                    BigDecimal.valueOf(productPrices[i])
+                );
+            }
+            report("product", inserter, startedAt);
+        }
+        productPopularity = new ZipfDistribution(products, zipfExponent);
+    }
+
+    private void loadMenuGroups(final Connection connection) throws SQLException {
+        final long startedAt = System.nanoTime();
+        menuGroupIds = new UUID[menuGroups];
+        try (final BulkInserter inserter = inserter(connection, "menu_group", "id", "name")) {
+            for (int i = 0; i < menuGroups; i++) {
+                menuGroupIds[i] = nextId(end);
+                inserter.add(menuGroupIds[i], MENU_GROUP_NAMES[i % MENU_GROUP_NAMES.length] + " " + (i / MENU_GROUP_NAMES.length + 1));
+            }
+            report("menu_group", inserter, startedAt);
+        }
+    }
+
+    private void loadMenus(final Connection connection) throws SQLException {
+        final long startedAt = System.nanoTime();
+        menuIds = new UUID[menus];
+        try (
+            final BulkInserter menuInserter = inserter(
+                connection, "menu", "id", "displayed", "name", "price", "menu_group_id", "product_price_sum"
+            );
+            final BulkInserter menuProductInserter = inserter(
+                connection, "menu_product", "quantity", "product_id", "menu_id"
+            ).after(menuInserter)
+        ) {
+            for (int i = 0; i < menus; i++) {
+                menuIds[i] = nextId(end);
+                final int[] productIndexes = distinctProducts(1 + random.nextInt(Math.min(maxMenuProducts, products)));
+                final long[] quantities = new long[productIndexes.length];
+                long productPriceSum = 0L;
+                for (int j = 0; j < productIndexes.length; j++) {
+                    quantities[j] = random.nextDouble() < 0.8 ? 1L : 2L + random.nextInt(2);
+                    productPriceSum += productPrices[productIndexes[j]] * quantities[j];
+                }
+                final long price = Math.round(productPriceSum * (0.75 + 0.25 * random.nextDouble()) / 100.0) * 100L;
+                menuInserter.add(
+                    menuIds[i],
+                    random.nextDouble() < 0.9,
+                    "메뉴 " + (i + 1),
+                    BigDecimal.valueOf(Math.min(price, productPriceSum)),
+                    menuGroupIds[random.nextInt(menuGroups)],
+                    BigDecimal.valueOf(productPriceSum)
+                );
+                for (int j = 0; j < productIndexes.length; j++) {
+                    menuProductInserter.add(quantities[j], productIds[productIndexes[j]], menuIds[i]);
+                }
+            }
+            report("menu_product", menuProductInserter, startedAt);
+            report("menu", menuInserter, startedAt);
+        }
+        menuPopularity = new ZipfDistribution(menus, zipfExponent);
+    }
+
+    private void loadOrderTables(final Connection connection) throws SQLException {
+        final long startedAt = System.nanoTime();
+        orderTableIds = new UUID[orderTables];
+        openOrderCounts = new int[orderTables];
+        try (final BulkInserter inserter = inserter(
+            connection, "order_table", "id", "name", "number_of_guests", "occupied", "open_order_count"
+        )) {
+            for (int i = 0; i < orderTables; i++) {
+                orderTableIds[i] = nextId(end);
+                inserter.add(orderTableIds[i], (i + 1) + "번", 0, false, 0);
+            }
+            report("order_table", inserter, startedAt);
+        }
+    }
+
+    private void loadOrders(final Connection connection) throws SQLException {
+        final long startedAt = System.nanoTime();
+        cumulativeHourlyWeights = cumulative(HOURLY_WEIGHTS);
+        final LocalDateTime start = end.minusDays(days);
+        final LocalDateTime openSince = end.minusMinutes(30);
+        try (
+            final BulkInserter orderInserter = inserter(
+                connection, "orders", "id", "delivery_address", "order_date_time", "status", "type", "order_table_id"
+            );
+            final BulkInserter orderLineItemInserter = inserter(
+                connection, "order_line_item", "quantity", "menu_id", "order_id"
+            ).after(orderInserter)
+        ) {
+            int generated = 0;
+            for (int day = 0; day < days; day++) {
+                final int count = (int) ((long) orders * (day + 1) / days) - generated;
+                final LocalDateTime midnight = start.plusDays(day);
+                final long[] offsets = new long[count];
+                for (int i = 0; i < count; i++) {
+                    offsets[i] = nextOffsetMillis();
+                }
+                Arrays.sort(offsets);
+                for (final long offset : offsets) {
+                    final LocalDateTime orderDateTime = midnight.plus(Duration.ofMillis(offset));
+                    final UUID orderId = nextId(orderDateTime);
+                    final OrderType type = nextOrderType();
+                    final OrderStatus status = orderDateTime.isBefore(openSince) ? OrderStatus.COMPLETED : nextOpenStatus(type);
+                    String deliveryAddress = null;
+                    UUID orderTableId = null;
+                    if (type == OrderType.DELIVERY) {
+                        deliveryAddress = "서울시 송파구 위례성대로 " + (1 + random.nextInt(500));
+                    }
+                    if (type == OrderType.EAT_IN) {
+                        final int orderTableIndex = random.nextInt(orderTables);
+                        orderTableId = orderTableIds[orderTableIndex];
+                        if (status != OrderStatus.COMPLETED) {
+                            openOrderCounts[orderTableIndex]++;
+                        }
+                    }
+                    orderInserter.add(orderId, deliveryAddress, orderDateTime, status.name(), type.name(), orderTableId);
+                    final int lineItems = nextOrderLineItemCount();
+                    for (int i = 0; i < lineItems; i++) {
+                        final long quantity = 1L + nextGeometric(0.7);
+                        orderLineItemInserter.add(quantity, menuIds[menuPopularity.sample(random)], orderId);
+                    }
+                }
+                generated += count;
+            }
+            report("order_line_item", orderLineItemInserter, startedAt);
+            report("orders", orderInserter, startedAt);
+        }
+    }
+
+    private void updateOrderTables(final Connection connection) throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(
+            "update order_table set occupied = ?, number_of_guests = ?, open_order_count = ? where id = ?"
+        )) {
+            for (int i = 0; i < orderTables; i++) {
+                if (openOrderCounts[i] == 0) {
+                    continue;
+                }
+                statement.setBoolean(1, true);
+                statement.setInt(2, 1 + random.nextInt(6));
+                statement.setInt(3, openOrderCounts[i]);
+                statement.setBytes(4, BulkInserter.toBytes(orderTableIds[i]));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private int[] distinctProducts(final int count) {
+        final int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            int index;
+            do {
+                index = productPopularity.sample(random);
+            } while (contains(indexes, i, index));
+            indexes[i] = index;
+        }
+        return indexes;
+    }
+
+    private long nextOffsetMillis() {
+        final double sample = random.nextDouble() * cumulativeHourlyWeights[cumulativeHourlyWeights.length - 1];
+        int hour = Arrays.binarySearch(cumulativeHourlyWeights, sample);
+        if (hour < 0) {
+            hour = -hour - 1;
+        }
+        return Duration.ofHours(hour).toMillis() + random.nextLong(Duration.ofHours(1).toMillis());
+    }
+
+    private OrderType nextOrderType() {
+        final double sample = random.nextDouble();
+        if (sample < 0.5) {
+            return OrderType.EAT_IN;
+        }
+        return sample < 0.8 ? OrderType.DELIVERY : OrderType.TAKEOUT;
+    }
+
+    private OrderStatus nextOpenStatus(final OrderType type) {
+        if (type == OrderType.DELIVERY) {
+            return OrderStatus.values()[random.nextInt(OrderStatus.DELIVERED.ordinal() + 1)];
+        }
+        return OrderStatus.values()[random.nextInt(OrderStatus.SERVED.ordinal() + 1)];
+    }
+
+    private int nextOrderLineItemCount() {
+        return 1 + nextGeometric(1.0 / meanOrderLineItems);
+    }
+
+    private int nextGeometric(final double probability) {
+        if (probability >= 1.0) {
+            return 0;
+        }
+        return (int) Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - probability));
+    }
+
+    private double gaussian() {
+        double u;
+        double v;
+        double s;
+        do {
+            u = 2.0 * random.nextDouble() - 1.0;
+            v = 2.0 * random.nextDouble() - 1.0;
+            s = u * u + v * v;
+        } while (s >= 1.0 || s == 0.0);
+        return u * Math.sqrt(-2.0 * Math.log(s) / s);
+    }
+
+    private UUID nextId(final LocalDateTime time) {
+        final long millis = time.toInstant(ZoneOffset.UTC).toEpochMilli();
+        final long mostSigBits = (millis << 16) | VERSION | random.nextInt(0x1000);
+        final long leastSigBits = (random.nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private BulkInserter inserter(final Connection connection, final String table, final String... columns) throws SQLException {
+        return new BulkInserter(connection, table, columns, rowsPerStatement, statementsPerCommit);
+    }
+
+    private static boolean contains(final int[] values, final int length, final int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double[] cumulative(final double[] weights) {
+        final double[] cumulative = new double[weights.length];
+        double sum = 0.0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        return cumulative;
+    }
+
+    private static void report(final String table, final BulkInserter inserter, final long startedAt) throws SQLException {
+        inserter.flush();
+        final double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        System.out.printf("%-16s %,12d rows %10.1f s %,12.0f rows/s%n", table, inserter.getCount(), seconds, inserter.getCount() / seconds);
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kitchenpos.tools;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointStats {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String endpoint;
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public EndpointStats(final String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(final long latencyNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public void reset() {
+        histogram.reset();
+        errors.reset();
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,54 @@
+package kitchenpos.tools;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@FunctionalInterface
+public interface LatencyDistribution {
+    long sampleNanos(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    static LatencyDistribution fixed(final long millis) {
+        return random -> TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    static LatencyDistribution uniform(final long minMillis, final long maxMillis) {
+        if (minMillis > maxMillis) {
+            throw new IllegalArgumentException();
+        }
+        final long min = TimeUnit.MILLISECONDS.toNanos(minMillis);
+        final long max = TimeUnit.MILLISECONDS.toNanos(maxMillis);
+        return random -> min + (long) (random.nextDouble() * (max - min));
+    }
+
+    static LatencyDistribution exponential(final double meanMillis) {
+        final double mean = meanMillis * TimeUnit.MILLISECONDS.toNanos(1);
+        return random -> (long) (-Math.log(1.0 - random.nextDouble()) * mean);
+    }
+
+    static LatencyDistribution logNormal(final double medianMillis, final double sigma) {
+        final double mu = Math.log(medianMillis * TimeUnit.MILLISECONDS.toNanos(1));
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    static LatencyDistribution parse(final String value) {
+        final String[] parts = value.split(":");
+        switch (parts[0]) {
+            case "none":
+                return none();
+            case "fixed":
+                return fixed(Long.parseLong(parts[1]));
+            case "uniform":
+                return uniform(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            case "exponential":
+                return exponential(Double.parseDouble(parts[1]));
+            case "lognormal":
+                return logNormal(Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+            default:
+                throw new IllegalArgumentException(value);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package kitchenpos.tools;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+public class LoadTest {
+    private static final String DEFAULT_MIX = "eat-in:40,takeout:20,delivery:30,browse:10";
+
+    private final LoadTestClient client;
+    private final SplittableRandom random;
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long meanThinkNanos;
+    private final int maxInFlight;
+    private final int orderTables;
+    private final String[] scenarioNames;
+    private final double[] cumulativeWeights;
+    private final Map<String, LongFunction<CompletableFuture<?>>> scenarios = new LinkedHashMap<>();
+    private final Queue<String> freeOrderTables = new ConcurrentLinkedQueue<>();
+    private final List<JsonNode> menus = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder eatInFallbacks = new LongAdder();
+
+    public LoadTest(final Arguments arguments) {
+        this.client = new LoadTestClient(
+            arguments.getString("host", "http://localhost:8080"),
+            Duration.ofSeconds(arguments.getLong("timeout", 30L))
+        );
+        this.random = new SplittableRandom(arguments.getLong("seed", 42L));
+        this.rate = arguments.getDouble("rate", 50.0);
+        this.warmup = Duration.ofSeconds(arguments.getLong("warmup", 30L));
+        this.duration = Duration.ofSeconds(arguments.getLong("duration", 60L));
+        this.meanThinkNanos = TimeUnit.MILLISECONDS.toNanos(arguments.getLong("think-ms", 20L));
+        this.maxInFlight = arguments.getInt("max-in-flight", 10_000);
+        this.orderTables = arguments.getInt("order-tables", 50);
+        scenarios.put("eat-in", this::eatIn);
+        scenarios.put("takeout", this::takeout);
+        scenarios.put("delivery", this::delivery);
+        scenarios.put("browse", this::browse);
+        final String[] mix = arguments.getString("mix", DEFAULT_MIX).split(",");
+        this.scenarioNames = new String[mix.length];
+        this.cumulativeWeights = new double[mix.length];
+        double sum = 0.0;
+        for (int i = 0; i < mix.length; i++) {
+            final String[] entry = mix[i].split(":");
+            if (entry.length != 2 || !scenarios.containsKey(entry[0])) {
+                throw new IllegalArgumentException(mix[i]);
+            }
+            scenarioNames[i] = entry[0];
+            sum += Double.parseDouble(entry[1]);
+            cumulativeWeights[i] = sum;
+        }
+        if (rate <= 0.0 || sum <= 0.0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static void main(final String[] args) throws FileNotFoundException {
+        final Arguments arguments = Arguments.parse(args);
+        final LoadTest loadTest = new LoadTest(arguments);
+        loadTest.prepare();
+        final double seconds = loadTest.run();
+        loadTest.report(System.out, seconds);
+        final String histogramDirectory = arguments.getString("histogram-dir", null);
+        if (histogramDirectory != null) {
+            loadTest.writeHistograms(Paths.get(histogramDirectory));
+        }
+    }
+
+    public void prepare() {
+        final long now = System.nanoTime();
+        client.get("GET /api/menus", "/api/menus", now)
+            .join()
+            .forEach(menu -> {
+                if (menu.path("displayed").asBoolean()) {
+                    menus.add(menu);
+                }
+            });
+        if (menus.isEmpty()) {
+            menus.add(createMenu());
+        }
+        for (int i = 0; i < orderTables; i++) {
+            final JsonNode orderTable = client.post(
+                "POST /api/order-tables", "/api/order-tables", body("name", "부하-" + (i + 1)), null, System.nanoTime()
+            ).join();
+            freeOrderTables.add(orderTable.path("id").asText());
+        }
+        client.reset();
+    }
+
+    public double run() {
+        final long startedAt = System.nanoTime();
+        final long measuredFrom = startedAt + warmup.toNanos();
+        final long endsAt = measuredFrom + duration.toNanos();
+        boolean measuring = warmup.isZero();
+        long intendedNanos = startedAt;
+        while (intendedNanos < endsAt) {
+            if (!measuring && intendedNanos >= measuredFrom) {
+                client.reset();
+                eatInFallbacks.reset();
+                measuring = true;
+            }
+            final boolean measured = measuring;
+            final String scenario = nextScenario();
+            parkUntil(intendedNanos);
+            if (inFlight.incrementAndGet() > maxInFlight) {
+                inFlight.decrementAndGet();
+                if (measured) {
+                    dropped.increment();
+                }
+            } else {
+                if (measured) {
+                    started.increment();
+                }
+                scenarios.get(scenario)
+                    .apply(intendedNanos)
+                    .whenComplete((ignored, throwable) -> {
+                        if (measured) {
+                            (throwable == null ? completed : failed).increment();
+                        }
+                        inFlight.decrementAndGet();
+                    });
+            }
+            intendedNanos += (long) (-Math.log(1.0 - random.nextDouble()) / rate * TimeUnit.SECONDS.toNanos(1));
+        }
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return (endsAt - measuredFrom) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    public void report(final PrintStream out, final double seconds) {
+        out.printf("scenarios: %d started, %d completed, %d failed, %d dropped in %.1f s%n",
+            started.sum(), completed.sum(), failed.sum(), dropped.sum(), seconds);
+        out.printf("eat-in: %d sessions ran as takeout for lack of a free order table%n", eatInFallbacks.sum());
+        out.printf("%-40s %10s %8s %10s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (final EndpointStats stats : client.getStats()) {
+            final Histogram histogram = stats.getHistogram();
+            out.printf("%-40s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                stats.getEndpoint(),
+                histogram.getTotalCount(),
+                stats.getErrors(),
+                histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50.0)),
+                millis(histogram.getValueAtPercentile(90.0)),
+                millis(histogram.getValueAtPercentile(99.0)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+        }
+    }
+
+    public void writeHistograms(final Path directory) throws FileNotFoundException {
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        for (final EndpointStats stats : client.getStats()) {
+            final String fileName = stats.getEndpoint().replaceAll("[^A-Za-z0-9-]+", "_") + ".hgrm";
+            try (final PrintStream out = new PrintStream(directory.resolve(fileName).toFile())) {
+                stats.getHistogram().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private CompletableFuture<?> eatIn(final long intendedNanos) {
+        final String orderTableId = freeOrderTables.poll();
+        if (orderTableId == null) {
+            eatInFallbacks.increment();
+            return takeout(intendedNanos);
+        }
+        final String path = "/api/order-tables/" + orderTableId;
+        final CompletableFuture<JsonNode> sat = client.put("PUT /api/order-tables/{id}/sit", path + "/sit", null, intendedNanos);
+        final CompletableFuture<JsonNode> guests = then(sat, next -> client.put(
+            "PUT /api/order-tables/{id}/number-of-guests",
+            path + "/number-of-guests",
+            body("numberOfGuests", 1 + ThreadLocalRandom.current().nextInt(6)),
+            next
+        ));
+        final CompletableFuture<JsonNode> order = then(guests, next -> createOrder("EAT_IN", orderTableId, null, next));
+        final CompletableFuture<JsonNode> completedOrder = transit(order, "accept", "serve", "complete");
+        // A table whose scenario failed may still be occupied, so it is not handed out again during this run.
+        return then(completedOrder, next -> client.put("PUT /api/order-tables/{id}/clear", path + "/clear", null, next))
+            .thenRun(() -> freeOrderTables.add(orderTableId));
+    }
+
+    private CompletableFuture<?> takeout(final long intendedNanos) {
+        return transit(createOrder("TAKEOUT", null, null, intendedNanos), "accept", "serve", "complete");
+    }
+
+    private CompletableFuture<?> delivery(final long intendedNanos) {
+        final String deliveryAddress = "서울시 송파구 위례성대로 " + (1 + ThreadLocalRandom.current().nextInt(500));
+        return transit(
+            createOrder("DELIVERY", null, deliveryAddress, intendedNanos),
+            "accept", "serve", "start-delivery", "complete-delivery", "complete"
+        );
+    }
+
+    private CompletableFuture<?> browse(final long intendedNanos) {
+        return CompletableFuture.allOf(
+            client.get("GET /api/menus", "/api/menus", intendedNanos),
+            client.get("GET /api/orders?status=WAITING", "/api/orders?status=WAITING&size=20", intendedNanos)
+        );
+    }
+
+    private CompletableFuture<JsonNode> createOrder(
+        final String type,
+        final String orderTableId,
+        final String deliveryAddress,
+        final long intendedNanos
+    ) {
+        final ThreadLocalRandom threadRandom = ThreadLocalRandom.current();
+        final List<Map<String, Object>> orderLineItems = new ArrayList<>();
+        final int count = 1 + threadRandom.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            final JsonNode menu = menus.get(threadRandom.nextInt(menus.size()));
+            final Map<String, Object> orderLineItem = body("menuId", menu.path("id").asText());
+            orderLineItem.put("price", new BigDecimal(menu.path("price").asText()));
+            orderLineItem.put("quantity", 1 + threadRandom.nextInt(2));
+            orderLineItems.add(orderLineItem);
+        }
+        final Map<String, Object> order = body("type", type);
+        order.put("orderTableId", orderTableId);
+        order.put("deliveryAddress", deliveryAddress);
+        order.put("orderLineItems", orderLineItems);
+        return client.post("POST /api/orders", "/api/orders", order, UUID.randomUUID().toString(), intendedNanos);
+    }
+
+    private CompletableFuture<JsonNode> transit(final CompletableFuture<JsonNode> order, final String... transitions) {
+        return order.thenCompose(created -> {
+            final String id = created.path("id").asText();
+            CompletableFuture<JsonNode> current = CompletableFuture.completedFuture(created);
+            for (final String transition : transitions) {
+                current = then(current, next -> client.put(
+                    "PUT /api/orders/{id}/" + transition, "/api/orders/" + id + "/" + transition, null, next
+                ));
+            }
+            return current;
+        });
+    }
+
+    private CompletableFuture<JsonNode> then(
+        final CompletableFuture<JsonNode> previous,
+        final LongFunction<CompletableFuture<JsonNode>> next
+    ) {
+        return previous.thenCompose(ignored -> {
+            final long thinkNanos = (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanThinkNanos);
+            final long intendedNanos = System.nanoTime() + thinkNanos;
+            return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(thinkNanos, TimeUnit.NANOSECONDS))
+                .thenCompose(unused -> next.apply(intendedNanos));
+        });
+    }
+
+    private JsonNode createMenu() {
+        final JsonNode menuGroup = client.post(
+            "POST /api/menu-groups", "/api/menu-groups", body("name", "부하메뉴"), null, System.nanoTime()
+        ).join();
+        final Map<String, Object> productRequest = body("name", "후라이드");
+        productRequest.put("price", 16_000);
+        final JsonNode product = client.post(
+            "POST /api/products", "/api/products", productRequest, null, System.nanoTime()
+        ).join();
+        final Map<String, Object> menuProduct = body("productId", product.path("id").asText());
+        menuProduct.put("quantity", 1);
+        final Map<String, Object> menuRequest = body("name", "후라이드");
+        menuRequest.put("price", 16_000);
+        menuRequest.put("menuGroupId", menuGroup.path("id").asText());
+        menuRequest.put("displayed", true);
+        menuRequest.put("menuProducts", Arrays.asList(menuProduct));
+        return client.post("POST /api/menus", "/api/menus", menuRequest, null, System.nanoTime()).join();
+    }
+
+    private String nextScenario() {
+        final double sample = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (sample < cumulativeWeights[i]) {
+                return scenarioNames[i];
+            }
+        }
+        return scenarioNames[scenarioNames.length - 1];
+    }
+
+    private static Map<String, Object> body(final String name, final Object value) {
+        final Map<String, Object> body = new LinkedHashMap<>();
+        body.put(name, value);
+        return body;
+    }
+
+    private static void parkUntil(final long intendedNanos) {
+        long remaining;
+        while ((remaining = intendedNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static double millis(final long micros) {
+        return micros / 1000.0;
+    }
+}
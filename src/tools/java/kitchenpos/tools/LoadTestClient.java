@@ -0,0 +1,107 @@
+package kitchenpos.tools;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class LoadTestClient {
+    private final HttpClient httpClient;
+    private final String host;
+    private final Duration timeout;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+
+    public LoadTestClient(final String host, final Duration timeout) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(timeout)
+            .build();
+        this.host = host;
+        this.timeout = timeout;
+    }
+
+    public CompletableFuture<JsonNode> get(final String endpoint, final String path, final long intendedNanos) {
+        return send(endpoint, request(path).GET().build(), intendedNanos);
+    }
+
+    public CompletableFuture<JsonNode> post(
+        final String endpoint,
+        final String path,
+        final Object body,
+        final String idempotencyKey,
+        final long intendedNanos
+    ) {
+        final HttpRequest.Builder request = request(path).POST(json(body));
+        if (idempotencyKey != null) {
+            request.header("Idempotency-Key", idempotencyKey);
+        }
+        return send(endpoint, request.build(), intendedNanos);
+    }
+
+    public CompletableFuture<JsonNode> put(final String endpoint, final String path, final Object body, final long intendedNanos) {
+        return send(endpoint, request(path).PUT(body == null ? HttpRequest.BodyPublishers.noBody() : json(body)).build(), intendedNanos);
+    }
+
+    public Collection<EndpointStats> getStats() {
+        return stats.values();
+    }
+
+    public void reset() {
+        stats.values().forEach(EndpointStats::reset);
+    }
+
+    private CompletableFuture<JsonNode> send(final String endpoint, final HttpRequest request, final long intendedNanos) {
+        final EndpointStats endpointStats = stats.computeIfAbsent(endpoint, EndpointStats::new);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .handle((response, throwable) -> {
+                final long latencyNanos = System.nanoTime() - intendedNanos;
+                if (throwable != null) {
+                    endpointStats.recordError();
+                    throw new CompletionException(throwable);
+                }
+                if (response.statusCode() >= 400) {
+                    endpointStats.recordError();
+                    throw new IllegalStateException(endpoint + " responded " + response.statusCode());
+                }
+                endpointStats.record(latencyNanos);
+                return parse(response.body());
+            });
+    }
+
+    private HttpRequest.Builder request(final String path) {
+        return HttpRequest.newBuilder(URI.create(host + path))
+            .timeout(timeout)
+            .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(final Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private JsonNode parse(final byte[] body) {
+        if (body.length == 0) {
+            return objectMapper.nullNode();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
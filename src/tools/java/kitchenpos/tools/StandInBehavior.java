@@ -0,0 +1,54 @@
+package kitchenpos.tools;
+
+import java.time.Duration;
+
+public class StandInBehavior {
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double timeoutRate;
+    private final Duration timeout;
+
+    public StandInBehavior(
+        final LatencyDistribution latency,
+        final double errorRate,
+        final double timeoutRate,
+        final Duration timeout
+    ) {
+        if (errorRate < 0.0 || timeoutRate < 0.0 || errorRate + timeoutRate > 1.0) {
+            throw new IllegalArgumentException();
+        }
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+        this.timeout = timeout;
+    }
+
+    public static StandInBehavior healthy() {
+        return new StandInBehavior(LatencyDistribution.none(), 0.0, 0.0, Duration.ofSeconds(30));
+    }
+
+    public static StandInBehavior of(final Arguments arguments, final String prefix) {
+        return new StandInBehavior(
+            LatencyDistribution.parse(arguments.getString(prefix + "-latency", "none")),
+            arguments.getDouble(prefix + "-error-rate", 0.0),
+            arguments.getDouble(prefix + "-timeout-rate", 0.0),
+            Duration.ofMillis(arguments.getLong(prefix + "-timeout-ms", 30_000L))
+        );
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getTimeoutRate() {
+        return timeoutRate;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
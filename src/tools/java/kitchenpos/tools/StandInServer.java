@@ -0,0 +1,198 @@
+package kitchenpos.tools;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import kitchenpos.infra.ProfanityMatcher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class StandInServer implements AutoCloseable {
+    public static final String PURGOMALUM_PATH = "/service/containsprofanity";
+    public static final String KITCHENRIDERS_PATH = "/api/deliveries";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+    private final ProfanityMatcher matcher;
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> timeouts = new ConcurrentHashMap<>();
+    private volatile StandInBehavior purgomalumBehavior = StandInBehavior.healthy();
+    private volatile StandInBehavior kitchenridersBehavior = StandInBehavior.healthy();
+
+    public StandInServer(final int port, final List<String> words) {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.matcher = ProfanityMatcher.of(words);
+        server.createContext(PURGOMALUM_PATH, exchange -> handle(exchange, purgomalumBehavior, this::containsProfanity));
+        server.createContext(KITCHENRIDERS_PATH, exchange -> handle(exchange, kitchenridersBehavior, this::acceptDelivery));
+        server.setExecutor(executor);
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Arguments arguments = Arguments.parse(args);
+        final StandInServer server = new StandInServer(arguments.getInt("port", 8081), defaultWords());
+        server.setPurgomalumBehavior(StandInBehavior.of(arguments, "purgomalum"));
+        server.setKitchenridersBehavior(StandInBehavior.of(arguments, "kitchenriders"));
+        server.start();
+        System.out.printf("stand-in listening on %s%n", server.getUrl());
+        final CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }));
+        stopped.await();
+    }
+
+    public static List<String> defaultWords() {
+        try (
+            final InputStream in = StandInServer.class.getResourceAsStream("/profanity/words.txt");
+            final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+        ) {
+            return reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public StandInServer start() {
+        server.start();
+        return this;
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setPurgomalumBehavior(final StandInBehavior purgomalumBehavior) {
+        this.purgomalumBehavior = purgomalumBehavior;
+    }
+
+    public void setKitchenridersBehavior(final StandInBehavior kitchenridersBehavior) {
+        this.kitchenridersBehavior = kitchenridersBehavior;
+    }
+
+    public long getRequests(final String path) {
+        return sum(requests, path);
+    }
+
+    public long getErrors(final String path) {
+        return sum(errors, path);
+    }
+
+    public long getTimeouts(final String path) {
+        return sum(timeouts, path);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange, final StandInBehavior behavior, final Responder responder) throws IOException {
+        final String path = exchange.getHttpContext().getPath();
+        counter(requests, path).increment();
+        final byte[] body = exchange.getRequestBody().readAllBytes();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final double outcome = random.nextDouble();
+        if (outcome < behavior.getTimeoutRate()) {
+            counter(timeouts, path).increment();
+            scheduler.schedule(exchange::close, behavior.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            return;
+        }
+        final boolean error = outcome < behavior.getTimeoutRate() + behavior.getErrorRate();
+        scheduler.schedule(() -> {
+            try {
+                if (error) {
+                    counter(errors, path).increment();
+                    respond(exchange, 503, new byte[0]);
+                } else {
+                    responder.respond(exchange, body);
+                }
+            } catch (final IOException e) {
+                if (!error) {
+                    counter(errors, path).increment();
+                }
+            } finally {
+                exchange.close();
+            }
+        }, behavior.getLatency().sampleNanos(random), TimeUnit.NANOSECONDS);
+    }
+
+    private void containsProfanity(final HttpExchange exchange, final byte[] body) throws IOException {
+        final String text = queryParameter(exchange.getRequestURI().getRawQuery(), "text");
+        exchange.getResponseHeaders().set("Content-Type", "text/plain");
+        respond(exchange, 200, String.valueOf(matcher.matches(text)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void acceptDelivery(final HttpExchange exchange, final byte[] body) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, new byte[0]);
+            return;
+        }
+        respond(exchange, 202, new byte[0]);
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (final OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String queryParameter(final String query, final String name) {
+        if (query == null) {
+            return "";
+        }
+        for (final String parameter : query.split("&")) {
+            final int separator = parameter.indexOf('=');
+            if (separator > 0 && parameter.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return "";
+    }
+
+    private static LongAdder counter(final Map<String, LongAdder> counters, final String path) {
+        return counters.computeIfAbsent(path, ignored -> new LongAdder());
+    }
+
+    private static long sum(final Map<String, LongAdder> counters, final String path) {
+        final LongAdder counter = counters.get(path);
+        return counter == null ? 0L : counter.sum();
+    }
+
+    @FunctionalInterface
+    private interface Responder {
+        void respond(HttpExchange exchange, byte[] body) throws IOException;
+    }
+}
@@ -0,0 +1,26 @@
+package kitchenpos.tools;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class ZipfDistribution {
+    private final double[] cumulativeWeights;
+
+    public ZipfDistribution(final int size, final double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException();
+        }
+        cumulativeWeights = new double[size];
+        double sum = 0.0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulativeWeights[rank] = sum;
+        }
+    }
+
+    public int sample(final SplittableRandom random) {
+        final double sample = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        final int index = Arrays.binarySearch(cumulativeWeights, sample);
+        return Math.min(index < 0 ? -index - 1 : index, cumulativeWeights.length - 1);
+    }
+}